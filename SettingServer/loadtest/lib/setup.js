@@ -0,0 +1,70 @@
+import http from 'k6/http';
+import encoding from 'k6/encoding';
+import { check, fail } from 'k6';
+
+export const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERS = parseInt(__ENV.USERS || '200', 10);
+const ROOM_SIZE = parseInt(__ENV.ROOM_SIZE || '10', 10);
+const PASSWORD = __ENV.PASSWORD || 'loadtest-password';
+const RUN_ID = __ENV.RUN_ID || String(Date.now());
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+/**
+ * 부하 테스트용 회원과 그룹 채팅방 준비
+ * 회원 USERS 명을 가입/로그인시키고, ROOM_SIZE 명씩 묶어 그룹 채팅방을 만든다
+ * 실행마다 RUN_ID 로 새 회원을 만들므로 같은 DB 에 반복 실행해도 충돌하지 않는다
+ */
+export function prepareMembers() {
+    const members = [];
+    for (let i = 0; i < USERS; i++) {
+        const email = `loadtest-${RUN_ID}-${i}@example.com`;
+        const name = `loadtest-${RUN_ID}-${i}`;
+
+        const signUp = http.post(`${BASE_URL}/v1/auth/signup`,
+            JSON.stringify({ email, password: PASSWORD, name }), { headers: JSON_HEADERS, tags: { name: 'setup' } });
+        check(signUp, { 'signup 200': (r) => r.status === 200 }) || fail(`회원가입 실패: ${signUp.status} ${signUp.body}`);
+
+        const signIn = http.post(`${BASE_URL}/v1/auth/signin`,
+            JSON.stringify({ email, password: PASSWORD }), { headers: JSON_HEADERS, tags: { name: 'setup' } });
+        check(signIn, { 'signin 200': (r) => r.status === 200 }) || fail(`로그인 실패: ${signIn.status} ${signIn.body}`);
+
+        const accessToken = signIn.json('accessToken');
+        members.push({ id: memberIdOf(accessToken), accessToken });
+    }
+
+    const rooms = [];
+    for (let start = 0; start + 1 < members.length; start += ROOM_SIZE) {
+        const group = members.slice(start, start + ROOM_SIZE);
+        const creator = group[0];
+        const res = http.post(`${BASE_URL}/v1/chat/rooms/group`,
+            JSON.stringify({
+                name: `loadtest-${RUN_ID}-${start / ROOM_SIZE}`,
+                creatorId: creator.id,
+                memberIds: group.slice(1).map((m) => m.id),
+            }),
+            { headers: authHeaders(creator.accessToken), tags: { name: 'setup' } });
+        check(res, { 'room 201': (r) => r.status === 201 }) || fail(`채팅방 생성 실패: ${res.status} ${res.body}`);
+
+        const roomCode = res.json('id');
+        group.forEach((m) => { m.roomCode = roomCode; });
+        rooms.push(roomCode);
+    }
+
+    return { members: members.filter((m) => m.roomCode), rooms };
+}
+
+// VU 마다 회원 하나를 고정으로 사용 (VU 번호는 1부터 시작)
+export function memberFor(data) {
+    return data.members[(__VU - 1) % data.members.length];
+}
+
+export function authHeaders(accessToken) {
+    return { ...JSON_HEADERS, Authorization: `Bearer ${accessToken}` };
+}
+
+// access token 의 회원 ID 클레임(uid)
+function memberIdOf(accessToken) {
+    const payload = accessToken.split('.')[1];
+    return JSON.parse(encoding.b64decode(payload, 'rawurl', 's')).uid;
+}
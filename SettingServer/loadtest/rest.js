@@ -0,0 +1,42 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { BASE_URL, authHeaders, memberFor, prepareMembers } from './lib/setup.js';
+
+/**
+ * REST 부하 테스트 (JPA/Redis 에서 블로킹되는 조회 API 위주)
+ * 동시 사용자 VUS 명이 쉬지 않고 요청을 보내므로, 같은 VUS 에서의 처리량(http_reqs/s)과
+ * p99(http_req_duration) 를 플랫폼 스레드/가상 스레드 모드끼리 비교한다
+ */
+export const options = {
+    setupTimeout: '10m',
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    scenarios: {
+        rest: {
+            executor: 'constant-vus',
+            vus: parseInt(__ENV.VUS || '200', 10),
+            duration: __ENV.DURATION || '3m',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    return prepareMembers();
+}
+
+export default function (data) {
+    const member = memberFor(data);
+    const params = (name) => ({ headers: authHeaders(member.accessToken), tags: { name } });
+
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/v1/chat/rooms/list?userId=${member.id}`, null, params('chat-room-list')],
+        ['GET', `${BASE_URL}/v1/chat/rooms/${member.roomCode}/messages?userId=${member.id}&limit=50`, null, params('chat-messages')],
+        ['GET', `${BASE_URL}/v1/chat/rooms/unread?userId=${member.id}`, null, params('chat-unread')],
+        ['GET', `${BASE_URL}/v1/members/${member.id}`, null, params('member')],
+        ['GET', `${BASE_URL}/v1/references/popular`, null, params('reference-popular')],
+    ]);
+
+    responses.forEach((res) => check(res, { 'status 200': (r) => r.status === 200 }));
+}
@@ -0,0 +1,108 @@
+import ws from 'k6/ws';
+import { check } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+import { BASE_URL, memberFor, prepareMembers } from './lib/setup.js';
+
+/**
+ * STOMP 부하 테스트
+ * VU 마다 SockJS 의 raw websocket 전송(/ws/{server}/{session}/websocket)으로 연결해 자기 채팅방을 구독하고,
+ * SEND_INTERVAL_MS 마다 메시지를 보낸다. 보낸 시각을 본문에 담아 자기 메시지가 구독으로 돌아오기까지의 시간을 잰다
+ * - stomp_roundtrip: 전송부터 브로드캐스트 수신까지 (p99 비교)
+ * - stomp_messages_sent / stomp_messages_received: 초당 전송/수신 (수신은 방 인원만큼 팬아웃된 수)
+ */
+const WS_URL = (__ENV.WS_URL || BASE_URL.replace(/^http/, 'ws')) + '/ws';
+const SEND_INTERVAL_MS = parseInt(__ENV.SEND_INTERVAL_MS || '1000', 10);
+const SESSION_SECONDS = parseInt(__ENV.SESSION_SECONDS || '60', 10);
+// RELAY 모드(RabbitMQ)는 /topic/room.{roomCode} 로 구독한다 (ChatBrokerMode.roomDestination 참고)
+const RELAY = (__ENV.CHAT_BROKER_MODE || '').toUpperCase() === 'RELAY';
+
+const roundtrip = new Trend('stomp_roundtrip', true);
+const sent = new Counter('stomp_messages_sent');
+const received = new Counter('stomp_messages_received');
+const errors = new Counter('stomp_errors');
+
+export const options = {
+    setupTimeout: '10m',
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    scenarios: {
+        stomp: {
+            executor: 'constant-vus',
+            vus: parseInt(__ENV.VUS || '200', 10),
+            duration: __ENV.DURATION || '3m',
+        },
+    },
+    thresholds: {
+        stomp_errors: ['count<1'],
+    },
+};
+
+export function setup() {
+    return prepareMembers();
+}
+
+export default function (data) {
+    const member = memberFor(data);
+    const destination = RELAY ? `/topic/room.${member.roomCode}` : `/sub/room/${member.roomCode}`;
+    const marker = `loadtest|${__VU}|`;
+    const url = `${WS_URL}/${Math.floor(Math.random() * 1000)}/${randomId()}/websocket`;
+
+    const res = ws.connect(url, { headers: { Authorization: `Bearer ${member.accessToken}` } }, (socket) => {
+        const sendFrame = (frame) => socket.send(JSON.stringify([frame]));
+
+        socket.on('message', (raw) => {
+            // SockJS 프레임: o(열림), h(heartbeat), a[...](메시지 묶음), c[...](닫힘)
+            if (raw === 'o') {
+                sendFrame(stompFrame('CONNECT', {
+                    'accept-version': '1.2',
+                    'heart-beat': '0,0',
+                    Authorization: `Bearer ${member.accessToken}`,
+                }));
+                return;
+            }
+            if (raw.charAt(0) !== 'a') {
+                return;
+            }
+
+            JSON.parse(raw.substring(1)).forEach((frame) => {
+                const command = frame.substring(0, frame.indexOf('\n'));
+                if (command === 'CONNECTED') {
+                    sendFrame(stompFrame('SUBSCRIBE', { id: 'sub-0', destination }));
+                    socket.setInterval(() => {
+                        sendFrame(stompFrame('SEND', {
+                            destination: `/pub/chat/rooms/${member.roomCode}/messages`,
+                            'content-type': 'application/json',
+                        }, JSON.stringify({ content: marker + Date.now() })));
+                        sent.add(1);
+                    }, SEND_INTERVAL_MS);
+                } else if (command === 'MESSAGE') {
+                    received.add(1);
+                    const content = JSON.parse(frameBody(frame)).content || '';
+                    if (content.startsWith(marker)) {
+                        roundtrip.add(Date.now() - parseInt(content.substring(marker.length), 10));
+                    }
+                } else if (command === 'ERROR') {
+                    errors.add(1);
+                    socket.close();
+                }
+            });
+        });
+
+        socket.on('error', () => errors.add(1));
+        socket.setTimeout(() => socket.close(), SESSION_SECONDS * 1000);
+    });
+
+    check(res, { 'websocket 101': (r) => r && r.status === 101 });
+}
+
+function stompFrame(command, headers, body = '') {
+    const lines = Object.keys(headers).map((key) => `${key}:${headers[key]}`);
+    return `${command}\n${lines.join('\n')}\n\n${body}\u0000`;
+}
+
+function frameBody(frame) {
+    return frame.substring(frame.indexOf('\n\n') + 2).replace(/\u0000$/, '');
+}
+
+function randomId() {
+    return Math.random().toString(36).substring(2, 10);
+}
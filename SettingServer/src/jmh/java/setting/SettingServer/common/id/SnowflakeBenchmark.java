@@ -0,0 +1,34 @@
+package setting.SettingServer.common.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snowflake ID 발급 처리량 (노드 하나가 ms 당 128개까지 발급하므로 이론상 상한은 초당 128,000개)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SnowflakeBenchmark {
+
+    private final Snowflake snowflake = new Snowflake(0);
+
+    @Benchmark
+    public long nextId() {
+        return snowflake.nextId();
+    }
+
+    // 여러 스레드가 하나의 생성기를 함께 쓰는 경우 (메시지 전송 스레드들)
+    @Benchmark
+    @Threads(4)
+    public long nextIdContended() {
+        return snowflake.nextId();
+    }
+}
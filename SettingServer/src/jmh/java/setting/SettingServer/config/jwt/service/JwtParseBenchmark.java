@@ -0,0 +1,78 @@
+package setting.SettingServer.config.jwt.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import setting.SettingServer.config.jwt.dto.VerifiedClaims;
+import setting.SettingServer.entity.JwtTokenType;
+import setting.SettingServer.entity.Member;
+import setting.SettingServer.entity.UserRole;
+
+import javax.crypto.SecretKey;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 검증 처리량 (스레드 하나 = 코어 하나 기준, 초당 검증 토큰 수)
+ * - parseVerified: 미리 만들어 둔 파서를 재사용하고 요청당 한 번만 검증 (변경 후)
+ * - perCallParser: 호출마다 파서를 만들어 검증 (변경 전 validateToken/extractEmail 한 번 분량)
+ * 변경 전 필터는 요청당 이 검증을 두세 번 반복했다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class JwtParseBenchmark {
+
+    private final byte[] keyBytes = new byte[64];
+    private SecretKey key;
+    private JwtService jwtService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        key = Keys.hmacShaKeyFor(keyBytes);
+
+        jwtService = new JwtService(null, null);
+        setField("secret", Encoders.BASE64.encode(keyBytes));
+        setField("accessExpiration", 3_600_000L);
+        setField("refreshExpiration", 3_600_000L);
+        jwtService.init();
+
+        Member member = Member.builder()
+                .id(1L)
+                .email("user@example.com")
+                .role(UserRole.USER)
+                .build();
+        accessToken = jwtService.createToken(member, JwtTokenType.ACCESS);
+    }
+
+    @Benchmark
+    public VerifiedClaims parseVerified() {
+        return jwtService.parseVerified(accessToken).orElseThrow();
+    }
+
+    @Benchmark
+    public Claims perCallParser() {
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(accessToken)
+                .getPayload();
+    }
+
+    private void setField(String name, Object value) throws ReflectiveOperationException {
+        Field field = JwtService.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtService, value);
+    }
+}
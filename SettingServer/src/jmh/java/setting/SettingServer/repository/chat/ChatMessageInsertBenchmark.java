@@ -0,0 +1,139 @@
+package setting.SettingServer.repository.chat;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.PostgreSQLContainer;
+import setting.SettingServer.common.id.Snowflake;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 INSERT 처리량: IDENTITY 한 건씩 (변경 전) vs 미리 발급한 Snowflake ID 로 JDBC 배치 (변경 후)
+ * BENCH_JDBC_URL(BENCH_JDBC_USER, BENCH_JDBC_PASSWORD) 이 있으면 그 PostgreSQL 을, 없으면 Testcontainers 로 띄운 PostgreSQL 을 쓴다 (Docker 필요)
+ * 결과 단위는 초당 INSERT 행 수이며, 스키마 영향을 없애기 위해 chat_message 와 같은 컬럼의 임시 테이블을 쓴다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ChatMessageInsertBenchmark {
+
+    private static final int ROWS = 500;
+
+    private static final String CREATE_TABLE_SQL =
+            "CREATE TEMPORARY TABLE bench_chat_message (" +
+            "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, chat_room_id BIGINT NOT NULL, sender_id BIGINT, " +
+            "content TEXT, message_type VARCHAR(20), sent_at TIMESTAMP, created_at TIMESTAMP, updated_at TIMESTAMP)";
+
+    // Hibernate 가 IDENTITY 엔티티를 저장할 때와 같이 생성된 키를 돌려받으며 한 건씩 실행
+    private static final String IDENTITY_INSERT_SQL =
+            "INSERT INTO bench_chat_message (chat_room_id, sender_id, content, message_type, sent_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    // ChatMessageBatchRepository 와 같은 형태
+    private static final String BATCH_INSERT_SQL =
+            "INSERT INTO bench_chat_message (id, chat_room_id, sender_id, content, message_type, sent_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (id) DO NOTHING";
+
+    private final Snowflake snowflake = new Snowflake(0);
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getenv("BENCH_JDBC_URL");
+        if (url != null) {
+            connection = DriverManager.getConnection(url,
+                    System.getenv().getOrDefault("BENCH_JDBC_USER", "postgres"),
+                    System.getenv().getOrDefault("BENCH_JDBC_PASSWORD", "postgres"));
+        } else {
+            postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withUrlParam("reWriteBatchedInserts", "true");
+            postgres.start();
+            connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        }
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_TABLE_SQL);
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE bench_chat_message");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identityRowByRow() throws SQLException {
+        long lastId = 0;
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement ps = connection.prepareStatement(IDENTITY_INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                ps.setLong(1, 1L);
+                ps.setLong(2, 1L);
+                ps.setString(3, "message " + i);
+                ps.setString(4, "CHAT");
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+                ps.setTimestamp(7, now);
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int[] snowflakeBatch() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        int[] result;
+        try (PreparedStatement ps = connection.prepareStatement(BATCH_INSERT_SQL)) {
+            for (int i = 0; i < ROWS; i++) {
+                ps.setLong(1, snowflake.nextId());
+                ps.setLong(2, 1L);
+                ps.setLong(3, 1L);
+                ps.setString(4, "message " + i);
+                ps.setString(5, "CHAT");
+                ps.setTimestamp(6, now);
+                ps.setTimestamp(7, now);
+                ps.setTimestamp(8, now);
+                ps.addBatch();
+            }
+            result = ps.executeBatch();
+        }
+        connection.commit();
+        return result;
+    }
+}
@@ -0,0 +1,62 @@
+package setting.SettingServer.common;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import setting.SettingServer.entity.Member;
+import setting.SettingServer.entity.UserRole;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JWT 클레임(회원 ID, 이메일, 권한)만으로 만드는 인증 주체
+ * 요청마다 Member 를 조회하지 않으며, 엔티티가 필요한 서비스에서만 ID 로 조회한다
+ */
+public class MemberPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final UserRole role;
+    private final List<GrantedAuthority> authorities;
+
+    public MemberPrincipal(Long id, String email, UserRole role) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        // 권한 없이 생성된 회원은 권한 없이 인증한다 (보정 전 데이터)
+        this.authorities = role != null ? List.of(new SimpleGrantedAuthority(role.name())) : List.of();
+    }
+
+    public static MemberPrincipal from(Member member) {
+        return new MemberPrincipal(member.getId(), member.getEmail(), member.getRole());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return "";
+    }
+
+    // 기존 코드와 동일하게 사용자 이름은 이메일
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
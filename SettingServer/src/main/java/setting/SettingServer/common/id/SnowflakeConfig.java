@@ -0,0 +1,102 @@
+package setting.SettingServer.common.id;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import setting.SettingServer.config.redis.ChatBrokerMode;
+
+import java.time.Duration;
+
+/**
+ * Snowflake ID 생성기 설정
+ * 단일 노드(simple)는 노드 ID 를 생략하면 0 을 사용하고,
+ * 여러 노드(redis, relay)는 노드마다 app.id.node-id 를 지정해야 하며 Redis 로 중복 사용을 막는다
+ */
+@Configuration
+@Slf4j
+public class SnowflakeConfig {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${app.id.node-id:#{null}}")
+    private Long nodeId;
+
+    @Value("${chat.broker.mode:simple}")
+    private ChatBrokerMode brokerMode;
+
+    @Value("${app.id.node-lease-ttl-seconds:30}")
+    private long leaseTtlSeconds;
+
+    @Value("${app.jpa.batch-size:50}")
+    private int batchSize;
+
+    private SnowflakeNodeLease lease;
+
+    public SnowflakeConfig(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (brokerMode != ChatBrokerMode.SIMPLE) {
+            if (nodeId == null) {
+                throw new IllegalStateException("브로커 모드가 " + brokerMode + " 이면 app.id.node-id 를 노드마다 다르게 지정해야 합니다");
+            }
+            lease = new SnowflakeNodeLease(stringRedisTemplate, nodeId, Duration.ofSeconds(leaseTtlSeconds));
+            lease.acquire();
+        }
+
+        long configured = nodeId == null ? 0L : nodeId;
+        Snowflake.configure(configured);
+        log.info("Snowflake ID 생성기 노드 ID: {}", configured);
+    }
+
+    // TTL 의 1/3 마다 갱신
+    @Scheduled(fixedDelayString = "#{${app.id.node-lease-ttl-seconds:30} * 1000 / 3}")
+    public void renewLease() {
+        if (lease == null) {
+            return;
+        }
+        try {
+            lease.renew();
+        } catch (DataAccessException e) {
+            log.warn("Snowflake 노드 ID 점유 갱신 실패: nodeId={}", nodeId, e);
+        }
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        if (lease == null) {
+            return;
+        }
+        try {
+            lease.release();
+        } catch (DataAccessException e) {
+            log.warn("Snowflake 노드 ID 반납 실패: nodeId={}", nodeId, e);
+        }
+    }
+
+    @Bean
+    public Snowflake snowflake() {
+        return Snowflake.shared();
+    }
+
+    /**
+     * 메시지 테이블이 IDENTITY 를 쓰지 않으므로 INSERT 를 JDBC 배치로 묶는다
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.put("hibernate.jdbc.batch_size", batchSize);
+            properties.put("hibernate.order_inserts", true);
+            properties.put("hibernate.order_updates", true);
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package setting.SettingServer.common.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Snowflake 노드 ID 점유 (Redis)
+ * 여러 노드가 같은 노드 ID 로 뜨면 ID 가 겹치고, 메시지 INSERT 의 ON CONFLICT (id) DO NOTHING 때문에 메시지가 조용히 사라진다.
+ * 시작 시 노드 ID 를 Redis 에 점유하고, 이미 다른 인스턴스가 점유 중이면 시작을 중단한다.
+ *
+ * - 키: id:snowflake:node:{nodeId} (값: 인스턴스 ID), TTL 마다 갱신한다
+ * - 정상 종료 시 반납하고, 비정상 종료 시에는 TTL 이 지나야 같은 노드 ID 로 다시 뜰 수 있다
+ */
+@Slf4j
+public class SnowflakeNodeLease {
+
+    private static final String NODE_KEY_PREFIX = "id:snowflake:node:";
+
+    // 1: 갱신, 0: 만료되어 다시 점유, -1: 다른 인스턴스가 점유 중
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "local owner = redis.call('GET', KEYS[1]) " +
+            "if not owner then redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) return 0 end " +
+            "if owner ~= ARGV[1] then return -1 end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long nodeId;
+    private final Duration ttl;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public SnowflakeNodeLease(StringRedisTemplate stringRedisTemplate, long nodeId, Duration ttl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.nodeId = nodeId;
+        this.ttl = ttl;
+    }
+
+    /**
+     * @throws IllegalStateException 다른 인스턴스가 같은 노드 ID 를 점유 중
+     */
+    public void acquire() {
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(key(), instanceId, ttl);
+        if (!Boolean.TRUE.equals(acquired)) {
+            throw new IllegalStateException("Snowflake 노드 ID " + nodeId + " 를 다른 인스턴스가 사용 중입니다 (app.id.node-id 를 노드마다 다르게 지정해야 합니다)");
+        }
+        log.info("Snowflake 노드 ID 점유: nodeId={}, ttl={}", nodeId, ttl);
+    }
+
+    public void renew() {
+        Long result = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(key()), instanceId, String.valueOf(ttl.toMillis()));
+        if (result != null && result < 0) {
+            log.error("Snowflake 노드 ID {} 를 다른 인스턴스가 점유했습니다. 메시지 ID 가 겹칠 수 있습니다", nodeId);
+        } else if (result != null && result == 0) {
+            log.warn("Snowflake 노드 ID 점유가 만료되어 다시 점유했습니다: nodeId={}", nodeId);
+        }
+    }
+
+    public void release() {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key()), instanceId);
+    }
+
+    private String key() {
+        return NODE_KEY_PREFIX + nodeId;
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 import setting.SettingServer.config.jwt.service.JwtService;
+import setting.SettingServer.config.redis.MemberDirectoryCache;
 import setting.SettingServer.entity.Member;
 import setting.SettingServer.entity.ProviderType;
 import setting.SettingServer.entity.UserRole;
@@ -26,6 +27,7 @@ public class Oauth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
     private final JwtService jwtService;
     private final MemberRepository memberRepository;
+    private final MemberDirectoryCache memberDirectoryCache;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authentication) throws IOException, ServletException {
@@ -60,7 +62,9 @@ public class Oauth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
                 .isDeleted(false)
                 .build();
 
-        return memberRepository.save(newMember);
+        Member saved = memberRepository.save(newMember);
+        memberDirectoryCache.evictAll();
+        return saved;
     }
 
     private String extractProfileImageUrl(Map<String, Object> attributes, String provider) {
@@ -13,8 +13,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriComponentsBuilder;
 import setting.SettingServer.common.CookieUtils;
 import setting.SettingServer.common.oauth.service.Oauth2UserPrincipal;
+import setting.SettingServer.config.jwt.dto.TokenDto;
 import setting.SettingServer.config.jwt.service.JwtService;
-import setting.SettingServer.entity.JwtTokenType;
+import setting.SettingServer.entity.Member;
 import setting.SettingServer.entity.ProviderType;
 import setting.SettingServer.repository.HttpCookieOAuth2AuthorizationRequestRepository;
 import setting.SettingServer.service.OauthService;
@@ -77,12 +78,13 @@ public class OauthLoginSuccessHandler extends SimpleUrlAuthenticationSuccessHand
                     principal.getUserInfo().getName(),
                     principal.getUserInfo().getAccessToken()
             );
-            String accessToken = jwtService.createToken(principal.getUserInfo().getEmail(), JwtTokenType.ACCESS);
-            String refreshToken = jwtService.createToken(principal.getUserInfo().getEmail(), JwtTokenType.REFRESH);
+            // 회원을 찾거나 만든 뒤 refresh token family 와 함께 발급 (재발급 시 family 를 확인한다)
+            Member member = oauthService.processOAuthPostLogin(principal.getUserInfo());
+            TokenDto tokens = jwtService.issueTokens(member);
 
             return UriComponentsBuilder.fromUriString(targetUrl)
-                    .queryParam("access_token", accessToken)
-                    .queryParam("refresh_token", refreshToken)
+                    .queryParam("access_token", tokens.getAccessToken())
+                    .queryParam("refresh_token", tokens.getRefreshToken())
                     .build().toUriString();
         } else if ("unlink".equalsIgnoreCase(mode)) {
             String accessToken = principal.getUserInfo().getAccessToken();
@@ -0,0 +1,67 @@
+package setting.SettingServer.config;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+import setting.SettingServer.common.CustomUserDetails;
+import setting.SettingServer.common.MemberPrincipal;
+import setting.SettingServer.common.exception.UnauthorizedException;
+import setting.SettingServer.entity.Member;
+import setting.SettingServer.repository.MemberRepository;
+
+/**
+ * 요청 단위 현재 로그인 회원
+ * 회원 ID 는 인증 주체에서 바로 꺼내고, Member 엔티티는 필요할 때 요청당 한 번만 조회한다
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentMember {
+
+    private final MemberRepository memberRepository;
+
+    private Long id;
+    private Member member;
+
+    public Long getId() {
+        if (id == null) {
+            id = resolveId();
+        }
+        return id;
+    }
+
+    public Member getMember() {
+        if (member == null) {
+            member = memberRepository.findById(getId())
+                    .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다"));
+        }
+        return member;
+    }
+
+    public boolean is(Long memberId) {
+        return getId().equals(memberId);
+    }
+
+    private Long resolveId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new UnauthorizedException("Security Context 에 인증 정보가 없습니다.");
+        }
+
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof MemberPrincipal memberPrincipal) {
+            return memberPrincipal.getId();
+        }
+        if (principal instanceof CustomUserDetails customUserDetails) {
+            return customUserDetails.getId();
+        }
+
+        // 그 외 주체는 이름(이메일)으로 조회
+        member = memberRepository.findByEmail(authentication.getName())
+                .orElseThrow(() -> new UnauthorizedException("인증된 사용자를 찾을 수 없습니다"));
+        return member.getId();
+    }
+}
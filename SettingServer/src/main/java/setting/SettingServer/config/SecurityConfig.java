@@ -27,8 +27,10 @@ import setting.SettingServer.config.jwt.filter.CustomJsonUsernamePasswordAuthent
 import setting.SettingServer.config.jwt.filter.JwtAuthenticationProcessingFilter;
 import setting.SettingServer.config.jwt.handler.LoginFailureHandler;
 import setting.SettingServer.config.jwt.handler.LoginSuccessHandler;
+import setting.SettingServer.config.jwt.service.JwtAuthenticationCache;
 import setting.SettingServer.config.jwt.service.JwtService;
 import setting.SettingServer.config.jwt.service.LoginService;
+import setting.SettingServer.config.jwt.service.TokenDenylist;
 import setting.SettingServer.repository.MemberRepository;
 
 import java.util.Arrays;
@@ -41,6 +43,8 @@ public class SecurityConfig {
 
     private final JwtService jwtService;
     private final MemberRepository memberRepository;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final TokenDenylist tokenDenylist;
     private final ObjectMapper objectMapper;
     private final LoginService loginService;
     private final OauthLoginSuccessHandler oauthLoginSuccessHandler;
@@ -73,7 +77,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationProcessingFilter jwtAuthenticationProcessingFilter() {
-        JwtAuthenticationProcessingFilter jwtAuthenticationProcessingFilter = new JwtAuthenticationProcessingFilter(jwtService, memberRepository);
+        JwtAuthenticationProcessingFilter jwtAuthenticationProcessingFilter = new JwtAuthenticationProcessingFilter(jwtService, memberRepository, jwtAuthenticationCache, tokenDenylist);
         return jwtAuthenticationProcessingFilter;
     }
 
@@ -101,6 +105,7 @@ public class SecurityConfig {
     private void configureAuthorizeHttpRequests(AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry auth) {
         auth
                 .requestMatchers(PUBLIC_URLS).permitAll()
+                .requestMatchers(HttpMethod.GET, "/v1/members/export").hasAuthority("ADMIN")
                 .requestMatchers(HttpMethod.GET, "/v1/members/", "/v1/members/{id}", "/v1/members").permitAll()
                 .requestMatchers(HttpMethod.PATCH, "/v1/members/{id}").hasAnyAuthority(USER_ADMIN_AUTHORITIES)
                 .requestMatchers(HttpMethod.POST, "/refresh").permitAll();
@@ -112,6 +117,7 @@ public class SecurityConfig {
     private void configureUserAdminRequests(AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry auth) {
         auth
                 .requestMatchers(HttpMethod.GET, "/v1/members/profile").hasAnyAuthority(USER_ADMIN_AUTHORITIES)
+                .requestMatchers(HttpMethod.POST, "/v1/members/{id}/sign-out").hasAuthority("ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/v1/members/**").hasAnyAuthority(USER_ADMIN_AUTHORITIES);
     }
 
@@ -0,0 +1,112 @@
+package setting.SettingServer.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 감지 (spring.threads.virtual.enabled=true 일 때만 동작)
+ * JFR jdk.VirtualThreadPinned 이벤트를 구독해, synchronized 블록 안에서 블로킹되어 캐리어 스레드를 점유한 지점을 찾는다.
+ * (예: RabbitMQ CachingConnectionFactory 의 채널 캐시, synchronized 안의 소켓 I/O)
+ *
+ * - 메트릭: jvm.threads.virtual.pinned (site 태그 = JDK 밖의 첫 번째 호출 지점)
+ * - 같은 지점은 처음 한 번만 WARN 으로 스택을 남기고 이후에는 DEBUG 로 남긴다
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 10;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+    private volatile boolean running;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${app.virtual-threads.pinned-threshold-ms:20}") long thresholdMillis) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        running = true;
+        log.info("가상 스레드 pinning 감지 시작: threshold={} ms", threshold.toMillis());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        stream.close();
+        stream = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        String site = pinnedSite(frames);
+
+        Timer.builder("jvm.threads.virtual.pinned")
+                .tag("site", site)
+                .description("가상 스레드가 캐리어 스레드에 고정된 시간")
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reportedSites.add(site)) {
+            log.warn("가상 스레드 pinning: site={}, duration={} ms\n{}", site, event.getDuration().toMillis(), format(frames));
+        } else if (log.isDebugEnabled()) {
+            log.debug("가상 스레드 pinning: site={}, duration={} ms", site, event.getDuration().toMillis());
+        }
+    }
+
+    // JDK 내부 프레임을 건너뛴 첫 번째 호출 지점 (클래스.메서드)
+    private String pinnedSite(List<RecordedFrame> frames) {
+        return frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .filter(name -> !name.startsWith("java.") && !name.startsWith("jdk.") && !name.startsWith("sun."))
+                .findFirst()
+                .orElse("unknown");
+    }
+
+    private String format(List<RecordedFrame> frames) {
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
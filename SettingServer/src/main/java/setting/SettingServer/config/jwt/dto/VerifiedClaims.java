@@ -0,0 +1,36 @@
+package setting.SettingServer.config.jwt.dto;
+
+import setting.SettingServer.entity.JwtTokenType;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임 (불변)
+ * @param type ACCESS || REFRESH
+ * @param email
+ * @param memberId 회원 ID (이전 방식으로 발급된 토큰이면 null)
+ * @param role 회원 권한 (이전 방식으로 발급된 토큰이거나 권한 없이 생성된 회원이면 null)
+ * @param tokenId 토큰 ID (jti)
+ * @param familyId refresh token family ID (refresh token 에만 존재)
+ * @param issuedAt
+ * @param expiresAt
+ */
+public record VerifiedClaims(JwtTokenType type, String email, Long memberId, String role,
+                             String tokenId, String familyId,
+                             Instant issuedAt, Instant expiresAt) {
+
+    public boolean isAccessToken() {
+        return type == JwtTokenType.ACCESS;
+    }
+
+    public boolean isRefreshToken() {
+        return type == JwtTokenType.REFRESH;
+    }
+
+    /**
+     * 클레임만으로 인증 주체를 만들 수 있는지 (회원 ID, 권한 포함 여부)
+     */
+    public boolean hasMemberClaims() {
+        return memberId != null && role != null;
+    }
+}
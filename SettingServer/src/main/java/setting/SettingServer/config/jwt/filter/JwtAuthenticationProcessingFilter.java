@@ -15,11 +15,16 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import setting.SettingServer.common.MemberPrincipal;
 import setting.SettingServer.common.exception.JwtAuthenticationException;
 import setting.SettingServer.common.oauth.JwtAuthenticationToken;
+import setting.SettingServer.config.jwt.dto.VerifiedClaims;
+import setting.SettingServer.config.jwt.service.JwtAuthenticationCache;
+import setting.SettingServer.config.jwt.service.JwtAuthenticationCache.CachedAuthentication;
 import setting.SettingServer.config.jwt.service.JwtService;
-import setting.SettingServer.entity.JwtTokenType;
+import setting.SettingServer.config.jwt.service.TokenDenylist;
 import setting.SettingServer.entity.Member;
+import setting.SettingServer.entity.UserRole;
 import setting.SettingServer.repository.MemberRepository;
 
 import java.io.IOException;
@@ -39,6 +44,8 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final MemberRepository memberRepository;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final TokenDenylist tokenDenylist;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -52,10 +59,12 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
             // 액세스 토큰 추출 및 관리
             // 일반 API 요청에선 액세스 토큰만 검증하고 처리하도록 단순화
             String accessToken = resolveToken(request);
-            if (StringUtils.hasText(accessToken) && jwtService.validateToken(accessToken)) {
-                // accessToken 검증 및 인증 처리
-                Authentication authentication = getAuthenticationFromToken(accessToken);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (StringUtils.hasText(accessToken)) {
+                // 캐시에 있으면 서명 검증/회원 조회 없이 인증 처리, 폐기된 토큰은 캐시에서도 제거
+                Optional<Authentication> authentication = jwtAuthenticationCache.get(accessToken)
+                        .map(cached -> authenticateCached(accessToken, cached))
+                        .orElseGet(() -> authenticateAndCache(accessToken));
+                authentication.ifPresent(auth -> SecurityContextHolder.getContext().setAuthentication(auth));
             }
 
             filterChain.doFilter(request, response);
@@ -64,19 +73,36 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
         }
     }
 
-    private Authentication getAuthenticationFromToken(String accessToken) {
-        String email = jwtService.extractEmail(accessToken)
-                .orElseThrow(() -> new JwtAuthenticationException("Could not extract email from token"));
+    private Optional<Authentication> authenticateCached(String accessToken, CachedAuthentication cached) {
+        if (tokenDenylist.isRevoked(cached.claims())) {
+            jwtAuthenticationCache.invalidate(accessToken);
+            return Optional.empty();
+        }
+        return Optional.of(cached.authentication());
+    }
+
+    private Optional<Authentication> authenticateAndCache(String accessToken) {
+        Optional<VerifiedClaims> verifiedClaims = jwtService.parseVerified(accessToken)
+                .filter(VerifiedClaims::isAccessToken);
+        if (verifiedClaims.isEmpty() || tokenDenylist.isRevoked(verifiedClaims.get())) {
+            return Optional.empty();
+        }
 
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new JwtAuthenticationException("User not found: " + email));
+        VerifiedClaims claims = verifiedClaims.get();
+        String email = Optional.ofNullable(claims.email())
+                .orElseThrow(() -> new JwtAuthenticationException("Could not extract email from token"));
 
-        UserDetails userDetails = createUserDetails(member);
-        return new UsernamePasswordAuthenticationToken(
+        UserDetails userDetails = createUserDetails(claims)
+                .orElseGet(() -> createUserDetails(memberRepository.findByEmail(email)
+                        .orElseThrow(() -> new JwtAuthenticationException("User not found: " + email))));
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
                 userDetails,
                 null,
                 userDetails.getAuthorities()
         );
+
+        jwtAuthenticationCache.put(accessToken, claims, authentication);
+        return Optional.of(authentication);
     }
 
     private String resolveToken(HttpServletRequest request) {
@@ -87,65 +113,26 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private void processAccessToken(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain, String accessToken) throws IOException, ServletException{
-        if (jwtService.validateToken(accessToken)) {
-            jwtService.extractAccessToken(request)
-                    .filter(jwtService::validateToken)
-                    .ifPresent(this::authenticationUser);
-
-        }
-
-        filterChain.doFilter(request, response);
-    }
-
-    private void processRefreshToken(HttpServletResponse response, String refreshToken) {
-        if (jwtService.validateToken(refreshToken)) {
-            jwtService.extractEmail(refreshToken)
-                            .flatMap(memberRepository::findByEmail)
-                    .ifPresentOrElse(
-                    user -> {
-                        if (refreshToken.equals(user.getRefreshToken())) {
-                            String newAccessToken = jwtService.createToken(user.getEmail(), JwtTokenType.ACCESS);
-                            String newRefreshToken = jwtService.createToken(user.getEmail(), JwtTokenType.REFRESH);
-                            user.updateRefreshToken(newRefreshToken);
-                            memberRepository.save(user);
-                            jwtService.sendAccessAndRefreshToken(response, newAccessToken, newRefreshToken);
-                        } else {
-                            throw new JwtAuthenticationException("Refresh token doesn't match");
-                        }
-                    },
-                    () -> {
-                        throw new JwtAuthenticationException("User not found for the given refresh token");
-                    }
-            );
-        } else {
-            throw new JwtAuthenticationException("Invalid refresh token");
-        }
-    }
-
-
-    private void authenticationUser(String accessToken) {
-        jwtService.extractEmail(accessToken)
-                .flatMap(memberRepository::findByEmail)
-                .ifPresent(this::saveAuthentication);
-    }
-
-    private void saveAuthentication(Member member) {
-        UserDetails userDetails = createUserDetails(member);
-        Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-    }
-
     private boolean isNoCheckUrl(String requestURI) {
         return NO_CHECK_URL.contains(requestURI);
     }
 
     private UserDetails createUserDetails(Member member) {
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(member.getEmail())
-                .password("")
-                .authorities(member.getRole().name())
-                .build();
+        return MemberPrincipal.from(member);
+    }
+
+    // 회원 ID/권한 클레임이 있으면 DB 조회 없이 주체 생성 (이전 방식의 토큰이면 empty)
+    private Optional<UserDetails> createUserDetails(VerifiedClaims claims) {
+        if (!claims.hasMemberClaims()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new MemberPrincipal(claims.memberId(), claims.email(), UserRole.valueOf(claims.role())));
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown role claim: {}", claims.role());
+            return Optional.empty();
+        }
     }
 
     private void handlerFilterException(HttpServletResponse response, Exception e) throws IOException {
@@ -9,8 +9,10 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
+import setting.SettingServer.common.exception.UserNotFoundException;
+import setting.SettingServer.config.jwt.dto.TokenDto;
 import setting.SettingServer.config.jwt.service.JwtService;
-import setting.SettingServer.entity.JwtTokenType;
+import setting.SettingServer.entity.Member;
 import setting.SettingServer.repository.MemberRepository;
 
 import java.io.IOException;
@@ -28,16 +30,14 @@ public class LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
         String email = extractUsername(authentication);
-        String accessToken = jwtService.createToken(email, JwtTokenType.ACCESS);
-        String refreshToken = jwtService.createToken(email, JwtTokenType.REFRESH);
+        // refresh token 은 family 가 등록되어야 재발급에 쓸 수 있으므로 항상 issueTokens 로 발급한다
+        Member member = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new UserNotFoundException("Member not found with email: " + email));
 
-        jwtService.sendAccessAndRefreshToken(response, accessToken, refreshToken);
+        TokenDto tokens = jwtService.issueTokens(member);
+        String accessToken = tokens.getAccessToken();
 
-        memberRepository.findByEmail(email)
-                .ifPresent(user -> {
-                    user.updateRefreshToken(refreshToken);
-                    memberRepository.saveAndFlush(user);
-                });
+        jwtService.sendAccessAndRefreshToken(response, accessToken, tokens.getRefreshToken());
 
         log.info("Login Success. email: {}", email);
         log.info("Login Success. accessToken: {}", accessToken);
@@ -0,0 +1,82 @@
+package setting.SettingServer.config.jwt.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import setting.SettingServer.config.jwt.dto.VerifiedClaims;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 액세스 토큰 캐시
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용하고, 검증된 클레임과 인증 정보를 보관한다.
+ * 캐시에 있는 토큰은 서명 검증과 회원 조회 없이 인증된다 (폐기 여부는 캐시와 별개로 매 요청 확인).
+ *
+ * - 항목은 토큰 만료 시각이 지나면 조회 시 무효로 처리한다
+ * - 회원 권한 변경/탈퇴가 반영되도록 expire-after-write 로 최대 보관 시간을 둔다
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final Cache<HashCode, CachedAuthentication> cache;
+
+    public JwtAuthenticationCache(MeterRegistry meterRegistry,
+                                  @Value("${spring.security.jwt.cache.maximum-size:100000}") long maximumSize,
+                                  @Value("${spring.security.jwt.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "jwt.authentication");
+    }
+
+    public Optional<CachedAuthentication> get(String token) {
+        HashCode key = hash(token);
+        CachedAuthentication cached = cache.getIfPresent(key);
+        if (cached == null) {
+            return Optional.empty();
+        }
+
+        if (cached.isExpired()) {
+            cache.invalidate(key);
+            return Optional.empty();
+        }
+        return Optional.of(cached);
+    }
+
+    public void put(String token, VerifiedClaims claims, Authentication authentication) {
+        cache.put(hash(token), new CachedAuthentication(claims, authentication));
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(hash(token));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private HashCode hash(String token) {
+        return Hashing.sha256().hashString(token, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 캐시 항목 (폐기 여부 확인을 위해 클레임도 함께 보관)
+     */
+    public record CachedAuthentication(VerifiedClaims claims, Authentication authentication) {
+
+        boolean isExpired() {
+            return claims.expiresAt() != null && !Instant.now().isBefore(claims.expiresAt());
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package setting.SettingServer.config.jwt.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -14,27 +16,22 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import setting.SettingServer.common.exception.InvalidTokenException;
-import setting.SettingServer.common.exception.UserNotFoundException;
 import setting.SettingServer.config.jwt.dto.TokenDto;
+import setting.SettingServer.config.jwt.dto.VerifiedClaims;
 import setting.SettingServer.entity.JwtTokenType;
 import setting.SettingServer.entity.Member;
-import setting.SettingServer.repository.MemberRepository;
 
 import javax.annotation.PostConstruct;
+import javax.crypto.SecretKey;
 import java.io.IOException;
-import java.security.Key;
+import java.time.Duration;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Date;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Stream;
 
 @Service
@@ -46,6 +43,9 @@ public class JwtService {
     private static final String ACCESS_TOKEN_SUBJECT = "accessToken";
     private static final String REFRESH_TOKEN_SUBJECT = "refreshToken";
     private static final String EMAIL_CLAIM = "email";
+    private static final String MEMBER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+    private static final String FAMILY_ID_CLAIM = "fid";
     private static final String BEARER_PREFIX = "Bearer ";
 
     // Configuration properties
@@ -65,25 +65,46 @@ public class JwtService {
     private String refreshHeader;
 
     // Dependencies
-    private final MemberRepository memberRepository;
-    private Key key;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenDenylist tokenDenylist;
+    private SecretKey key;
+    // 불변/스레드 안전하므로 한 번 만들어 재사용
+    private JwtParser jwtParser;
 
     @PostConstruct
     public void init() {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser()
+                .verifyWith(key)
+                .build();
     }
 
-    public boolean isRefreshToken(String token) {
+    /**
+     * 토큰 서명과 만료를 한 번 검증하고 클레임을 반환 (유효하지 않으면 empty)
+     * 토큰 검증이 필요한 곳은 모두 이 메서드 하나만 사용한다
+     */
+    public Optional<VerifiedClaims> parseVerified(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
+
         try {
-            Claims claims = Jwts.parser()
-                    .setSigningKey(secret)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return JwtTokenType.REFRESH.equals(claims.get(REFRESH_TOKEN_SUBJECT));
-        } catch (JwtException e) {
-            return false;
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            JwtTokenType type = REFRESH_TOKEN_SUBJECT.equals(claims.getSubject()) ? JwtTokenType.REFRESH : JwtTokenType.ACCESS;
+
+            return Optional.of(new VerifiedClaims(
+                    type,
+                    claims.get(EMAIL_CLAIM, String.class),
+                    claims.get(MEMBER_ID_CLAIM, Long.class),
+                    claims.get(ROLE_CLAIM, String.class),
+                    claims.getId(),
+                    claims.get(FAMILY_ID_CLAIM, String.class),
+                    claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                    claims.getExpiration() != null ? claims.getExpiration().toInstant() : null));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+            return Optional.empty();
         }
     }
 
@@ -93,18 +114,60 @@ public class JwtService {
     }
 
     // Token Creation
-    public String createToken(String email, JwtTokenType type) {
+    /**
+     * 회원 ID 와 권한을 클레임에 담아 발급 (인증 시 회원 조회 없이 주체를 만들 수 있다)
+     */
+    public String createToken(Member member, JwtTokenType type) {
+        return buildToken(member.getEmail(), type)
+                .claim(MEMBER_ID_CLAIM, member.getId())
+                .claim(ROLE_CLAIM, member.getRole() != null ? member.getRole().name() : null)
+                .compact();
+    }
+
+    /**
+     * 로그인 시 토큰 발급
+     * 새 refresh token family 를 만들어 Redis 에 등록한다 (회원 테이블에는 쓰지 않는다)
+     */
+    public TokenDto issueTokens(Member member) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        String role = member.getRole() != null ? member.getRole().name() : null;
+
+        String accessToken = createToken(member, JwtTokenType.ACCESS);
+        String refreshToken = buildRefreshToken(member.getEmail(), member.getId(), role, familyId, tokenId);
+        refreshTokenStore.save(familyId, tokenId, member.getId(), Duration.ofMillis(refreshExpiration));
+
+        return new TokenDto(accessToken, refreshToken);
+    }
+
+    private String buildRefreshToken(String email, Long memberId, String role, String familyId, String tokenId) {
+        return buildToken(email, JwtTokenType.REFRESH)
+                .id(tokenId)
+                .claim(MEMBER_ID_CLAIM, memberId)
+                .claim(ROLE_CLAIM, role)
+                .claim(FAMILY_ID_CLAIM, familyId)
+                .compact();
+    }
+
+    private String buildAccessToken(String email, Long memberId, String role) {
+        return buildToken(email, JwtTokenType.ACCESS)
+                .claim(MEMBER_ID_CLAIM, memberId)
+                .claim(ROLE_CLAIM, role)
+                .compact();
+    }
+
+    private JwtBuilder buildToken(String email, JwtTokenType type) {
         Date now = new Date();
         Date expiration = calculateExpirationDate(now, type);
         String subject = type == JwtTokenType.ACCESS ? ACCESS_TOKEN_SUBJECT : REFRESH_TOKEN_SUBJECT;
 
         return Jwts.builder()
                 .setSubject(subject)
+                .id(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiration)
                 .claim(EMAIL_CLAIM, email)
-                .signWith(key, SignatureAlgorithm.HS512)
-                .compact();
+                .signWith(key, SignatureAlgorithm.HS512);
     }
 
     private Date calculateExpirationDate(Date now, JwtTokenType type) {
@@ -112,42 +175,6 @@ public class JwtService {
         return new Date(now.getTime() + expirationPeriod);
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        UserDetails user = new User(claims.getSubject(), "", Collections.emptyList());
-        return new UsernamePasswordAuthenticationToken(user, "", Collections.emptyList());
-    }
-
-    // Token Validation
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parser().setSigningKey(key).build().parseSignedClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
-        }
-    }
-
-    public Optional<String> extractEmail(String token) {
-        try {
-            return Optional.ofNullable(Jwts.parser()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .get(EMAIL_CLAIM, String.class));
-        } catch (JwtException e) {
-            log.error("Failed to extract email from token: {}", e.getMessage());
-            return Optional.empty();
-        }
-    }
-
     public Optional<String> extractAccessToken(HttpServletRequest request) {
         return extractTokenFromHeader(request, accessHeader);
     }
@@ -179,51 +206,61 @@ public class JwtService {
                         .map(Cookie::getValue));
     }
 
-    // Token Storage
-    public void updateStoredToken(String email, String token, boolean isAccessToken) {
-        memberRepository.findByEmail(email)
-                .ifPresentOrElse(user -> {
-                            if (isAccessToken) user.updateAccessToken(token);
-                            else user.updateRefreshToken(token);
-                        },
-                        () -> log.error("User not found: {}", email));
-    }
-
-
-    public void updateStoredRefreshToken(String email, String refreshToken) {
-        memberRepository.findByEmail(email)
-                .ifPresentOrElse(
-                        user -> {
-                            user.updateRefreshToken(refreshToken);
-                            memberRepository.save(user);
-                        },
-                        () -> log.error("User not found for email: {}", email)
-                );
-    }
-
-    @Transactional
+    /**
+     * Refresh token 으로 토큰 재발급 (rotation)
+     * 제시된 토큰이 family 의 현재 토큰일 때만 새 토큰으로 교체하고, 이미 교체된 토큰이면 family 를 폐기한다
+     * 회원 정보는 클레임에서 가져오므로 DB 를 조회하지 않는다
+     */
     public TokenDto reissueTokens(String refreshToken) {
-        if (!validateToken(refreshToken)) {
-            throw new InvalidTokenException("Invalid refresh token");
+        VerifiedClaims claims = parseVerified(refreshToken)
+                .filter(VerifiedClaims::isRefreshToken)
+                .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+
+        if (claims.familyId() == null || claims.tokenId() == null || claims.memberId() == null) {
+            // family 없이 발급된 이전 토큰은 재로그인 필요
+            // 권한 클레임은 그대로 옮겨 담는다 (권한 없이 생성된 회원의 토큰은 인증 시 회원을 조회한다)
+            throw new InvalidTokenException("Refresh token is no longer supported, please sign in again");
+        }
+        if (tokenDenylist.isRevoked(claims)) {
+            refreshTokenStore.revoke(claims.familyId());
+            throw new InvalidTokenException("Refresh token has been revoked");
         }
 
-        String email = extractEmail(refreshToken)
-                .orElseThrow(() -> new InvalidTokenException("Could not extract email from refresh token"));
-
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("User not found for email: " + email));
+        String newTokenId = UUID.randomUUID().toString();
+        RefreshTokenStore.RotationResult result = refreshTokenStore.rotate(
+                claims.familyId(), claims.tokenId(), newTokenId, Duration.ofMillis(refreshExpiration));
 
-        if (!refreshToken.equals(member.getRefreshToken())) {
-            throw new InvalidTokenException("Refresh token does not match stored token");
+        switch (result) {
+            case REUSED -> throw new InvalidTokenException("Refresh token reuse detected");
+            case UNKNOWN -> throw new InvalidTokenException("Refresh token expired or revoked");
+            default -> { }
         }
 
-        String newAccessToken = createToken(email, JwtTokenType.ACCESS);
-        String newRefreshToken = createToken(email, JwtTokenType.REFRESH);
-        updateStoredRefreshToken(email, newRefreshToken);
+        String newAccessToken = buildAccessToken(claims.email(), claims.memberId(), claims.role());
+        String newRefreshToken = buildRefreshToken(claims.email(), claims.memberId(), claims.role(), claims.familyId(), newTokenId);
 
         return new TokenDto(newAccessToken, newRefreshToken);
     }
 
+    /**
+     * 로그아웃 시 액세스 토큰을 만료 시각까지 폐기 목록에 등록
+     */
+    public void revokeAccessToken(String accessToken) {
+        parseVerified(accessToken)
+                .filter(VerifiedClaims::isAccessToken)
+                .ifPresent(claims -> tokenDenylist.revokeToken(claims.tokenId(), claims.expiresAt()));
+    }
+
+    /**
+     * 로그아웃 시 refresh token family 폐기
+     */
+    public void revokeRefreshToken(String refreshToken) {
+        parseVerified(refreshToken)
+                .filter(VerifiedClaims::isRefreshToken)
+                .map(VerifiedClaims::familyId)
+                .ifPresent(refreshTokenStore::revoke);
+    }
+
     public void sendAccessAndRefreshToken(HttpServletResponse response, String accessToken, String refreshToken) {
         response.setHeader(accessHeader, "Bearer " + accessToken);
 
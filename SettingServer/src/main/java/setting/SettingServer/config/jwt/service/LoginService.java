@@ -8,7 +8,9 @@ import org.springframework.stereotype.Service;
 import setting.SettingServer.common.oauth.AuthTokenGenerator;
 import setting.SettingServer.common.oauth.AuthTokens;
 import setting.SettingServer.common.oauth.RequestOAuthInfoService;
+import setting.SettingServer.config.redis.MemberDirectoryCache;
 import setting.SettingServer.entity.Member;
+import setting.SettingServer.entity.UserRole;
 import setting.SettingServer.repository.MemberRepository;
 import setting.SettingServer.user.OAuth2UserInfo;
 import setting.SettingServer.user.OAuthLoginParams;
@@ -21,6 +23,7 @@ public class LoginService implements UserDetailsService {
     private final JwtService jwtService;
     private final AuthTokenGenerator authTokenGenerator;
     private final RequestOAuthInfoService requestOAuthInfoService;
+    private final MemberDirectoryCache memberDirectoryCache;
 
 
     @Override
@@ -51,8 +54,11 @@ public class LoginService implements UserDetailsService {
         Member member = Member.builder()
                 .email(oAuth2UserInfo.getEmail())
                 .name(oAuth2UserInfo.getName())
+                .role(UserRole.USER)
                 .type(oAuth2UserInfo.getProvider())
                 .build();
-        return memberRepository.save(member).getId();
+        Long memberId = memberRepository.save(member).getId();
+        memberDirectoryCache.evictAll();
+        return memberId;
     }
 }
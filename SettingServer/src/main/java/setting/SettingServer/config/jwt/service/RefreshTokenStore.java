@@ -0,0 +1,82 @@
+package setting.SettingServer.config.jwt.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Refresh token 저장소 (Redis)
+ * 로그인 한 번에 발급되는 refresh token 들을 하나의 family 로 묶고, family 마다 현재 유효한 토큰 ID(jti) 하나만 보관한다.
+ *
+ * - 키: refresh:family:{familyId} (hash: current, memberId), TTL = refresh token 만료 시간
+ * - 재발급은 Lua 스크립트로 "현재 jti 확인 + 교체" 를 원자적으로 처리한다
+ * - 이미 교체된 jti 가 다시 들어오면 탈취로 보고 family 전체를 폐기한다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenStore {
+
+    private static final String FAMILY_KEY_PREFIX = "refresh:family:";
+    private static final String CURRENT_FIELD = "current";
+    private static final String MEMBER_ID_FIELD = "memberId";
+
+    // 1: 교체 완료, 0: family 없음(만료/폐기), -1: 재사용 감지(family 폐기)
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], 'current') " +
+            "if not current then return 0 end " +
+            "if current ~= ARGV[1] then redis.call('DEL', KEYS[1]) return -1 end " +
+            "redis.call('HSET', KEYS[1], 'current', ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public enum RotationResult {
+        ROTATED, UNKNOWN, REUSED
+    }
+
+    /**
+     * 새 family 등록 (로그인 시)
+     */
+    public void save(String familyId, String tokenId, Long memberId, Duration ttl) {
+        String key = familyKey(familyId);
+        stringRedisTemplate.opsForHash().putAll(key, Map.of(
+                CURRENT_FIELD, tokenId,
+                MEMBER_ID_FIELD, String.valueOf(memberId)));
+        stringRedisTemplate.expire(key, ttl);
+    }
+
+    /**
+     * 현재 토큰을 새 토큰으로 교체 (재발급 시)
+     */
+    public RotationResult rotate(String familyId, String presentedTokenId, String newTokenId, Duration ttl) {
+        Long result = stringRedisTemplate.execute(ROTATE_SCRIPT, List.of(familyKey(familyId)),
+                presentedTokenId, newTokenId, String.valueOf(ttl.toMillis()));
+
+        if (result == null || result == 0) {
+            return RotationResult.UNKNOWN;
+        }
+        if (result < 0) {
+            log.warn("Refresh token 재사용 감지, family 폐기: familyId={}", familyId);
+            return RotationResult.REUSED;
+        }
+        return RotationResult.ROTATED;
+    }
+
+    public void revoke(String familyId) {
+        stringRedisTemplate.delete(familyKey(familyId));
+    }
+
+    private String familyKey(String familyId) {
+        return FAMILY_KEY_PREFIX + familyId;
+    }
+}
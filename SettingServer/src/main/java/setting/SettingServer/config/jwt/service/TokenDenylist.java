@@ -0,0 +1,253 @@
+package setting.SettingServer.config.jwt.service;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import setting.SettingServer.config.jwt.dto.VerifiedClaims;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 토큰 폐기 목록 (denylist)
+ * 로그아웃한 토큰 ID(jti) 와 강제 로그아웃한 회원의 기준 시각을 Redis 에 보관하고,
+ * 각 서버는 로컬 bloom filter 로 "폐기되지 않은 토큰" 을 Redis 조회 없이 걸러낸다.
+ *
+ * - Redis: jwt:denylist (ZSET, member = 항목, score = 항목 만료 시각), jwt:member-cutoff:{memberId} (기준 시각)
+ * - 폐기 시 jwt:denylist 채널로 항목을 발행해 다른 서버의 bloom filter 에 바로 반영한다
+ * - bloom filter 는 주기적으로 ZSET 기준으로 다시 만들어 만료 항목을 비우고 유실된 메시지를 보정한다
+ * - bloom filter 가 양성일 때만 Redis 로 확인한다 (오탐 비율은 메트릭으로 노출)
+ */
+@Component
+@Slf4j
+public class TokenDenylist implements MessageListener {
+
+    private static final String DENYLIST_KEY = "jwt:denylist";
+    private static final String MEMBER_CUTOFF_KEY_PREFIX = "jwt:member-cutoff:";
+    private static final String CHANNEL = "jwt:denylist";
+    private static final String TOKEN_PREFIX = "t:";
+    private static final String MEMBER_PREFIX = "m:";
+    private static final char MESSAGE_SEPARATOR = '|';
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long refreshExpiration;
+
+    private final Object filterLock = new Object();
+    private volatile BloomFilter<CharSequence> filter;
+    // 재구성 중에 들어온 항목은 새 filter 에도 넣는다
+    private BloomFilter<CharSequence> rebuilding;
+
+    // 빠른 경로 비용을 늘리지 않도록 검사 횟수는 LongAdder 로만 센다
+    private final LongAdder checks = new LongAdder();
+    private final Counter positives;
+    private final Counter falsePositives;
+    private final AtomicLong lastMessageLagMillis = new AtomicLong();
+    private final AtomicLong lastRebuildAt = new AtomicLong(System.currentTimeMillis());
+
+    public TokenDenylist(StringRedisTemplate stringRedisTemplate,
+                         RedisMessageListenerContainer redisMessageListenerContainer,
+                         MeterRegistry meterRegistry,
+                         @Value("${spring.security.jwt.denylist.expected-insertions:100000}") long expectedInsertions,
+                         @Value("${spring.security.jwt.denylist.false-positive-rate:0.001}") double falsePositiveRate,
+                         @Value("${spring.security.jwt.refresh-expiration}") long refreshExpiration) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.refreshExpiration = refreshExpiration;
+        this.filter = newFilter(expectedInsertions);
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+
+        FunctionCounter.builder("jwt.denylist.checks", checks, LongAdder::sum)
+                .description("폐기 여부 검사 횟수")
+                .register(meterRegistry);
+        this.positives = Counter.builder("jwt.denylist.bloom.positives")
+                .description("bloom filter 양성 (Redis 확인) 횟수")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("jwt.denylist.bloom.false_positives")
+                .description("bloom filter 양성이었지만 폐기되지 않은 토큰 수")
+                .register(meterRegistry);
+        Gauge.builder("jwt.denylist.bloom.false_positive_rate", this, TokenDenylist::observedFalsePositiveRate)
+                .description("검사 대비 bloom filter 오탐 비율")
+                .register(meterRegistry);
+        Gauge.builder("jwt.denylist.bloom.expected_fpp", this, denylist -> denylist.filter.expectedFpp())
+                .description("현재 bloom filter 의 예상 오탐 확률")
+                .register(meterRegistry);
+        Gauge.builder("jwt.denylist.sync.lag", lastMessageLagMillis, AtomicLong::get)
+                .description("마지막 폐기 메시지의 발행부터 반영까지 걸린 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("jwt.denylist.sync.age", lastRebuildAt, last -> (System.currentTimeMillis() - last.get()) / 1000.0)
+                .description("마지막 전체 동기화 이후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    // ================= 폐기 =================
+
+    /**
+     * 토큰 하나 폐기 (로그아웃)
+     */
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        if (tokenId == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        add(TOKEN_PREFIX + tokenId, expiresAt.toEpochMilli());
+    }
+
+    /**
+     * 회원의 지금까지 발급된 모든 토큰 폐기 (강제 로그아웃)
+     * 기준 시각 이전에 발급된 토큰은 refresh token 만료 시간 동안 거부된다
+     */
+    public void revokeMember(Long memberId) {
+        long now = System.currentTimeMillis();
+        stringRedisTemplate.opsForValue().set(
+                MEMBER_CUTOFF_KEY_PREFIX + memberId, String.valueOf(now), Duration.ofMillis(refreshExpiration));
+        add(MEMBER_PREFIX + memberId, now + refreshExpiration);
+    }
+
+    private void add(String entry, long expiresAtMillis) {
+        stringRedisTemplate.opsForZSet().add(DENYLIST_KEY, entry, expiresAtMillis);
+        put(entry);
+        stringRedisTemplate.convertAndSend(CHANNEL, entry + MESSAGE_SEPARATOR + System.currentTimeMillis());
+    }
+
+    // ================= 검사 =================
+
+    /**
+     * 폐기된 토큰인지 확인
+     * bloom filter 가 음성이면 Redis 를 조회하지 않는다
+     */
+    public boolean isRevoked(VerifiedClaims claims) {
+        checks.increment();
+        BloomFilter<CharSequence> current = filter;
+
+        boolean tokenCandidate = claims.tokenId() != null && current.mightContain(TOKEN_PREFIX + claims.tokenId());
+        boolean memberCandidate = claims.memberId() != null && current.mightContain(MEMBER_PREFIX + claims.memberId());
+        if (!tokenCandidate && !memberCandidate) {
+            return false;
+        }
+
+        positives.increment();
+        try {
+            boolean revoked = (tokenCandidate && isTokenRevoked(claims.tokenId()))
+                    || (memberCandidate && isIssuedBeforeCutoff(claims.memberId(), claims.issuedAt()));
+            if (!revoked) {
+                falsePositives.increment();
+            }
+            return revoked;
+        } catch (DataAccessException e) {
+            // 확인할 수 없으면 폐기된 것으로 본다
+            log.warn("토큰 폐기 여부 확인 실패: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private boolean isTokenRevoked(String tokenId) {
+        Double expiresAt = stringRedisTemplate.opsForZSet().score(DENYLIST_KEY, TOKEN_PREFIX + tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    private boolean isIssuedBeforeCutoff(Long memberId, Instant issuedAt) {
+        String cutoff = stringRedisTemplate.opsForValue().get(MEMBER_CUTOFF_KEY_PREFIX + memberId);
+        if (cutoff == null) {
+            return false;
+        }
+        // iat 는 초 단위이므로 같은 초에 발급된 토큰도 폐기 대상으로 본다
+        return issuedAt == null || issuedAt.getEpochSecond() <= Long.parseLong(cutoff) / 1000;
+    }
+
+    private double observedFalsePositiveRate() {
+        long total = checks.sum();
+        return total == 0 ? 0.0 : falsePositives.count() / total;
+    }
+
+    // ================= 동기화 =================
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(MESSAGE_SEPARATOR);
+        if (separator < 0) {
+            return;
+        }
+
+        put(body.substring(0, separator));
+        try {
+            long publishedAt = Long.parseLong(body.substring(separator + 1));
+            lastMessageLagMillis.set(Math.max(0, System.currentTimeMillis() - publishedAt));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 폐기 메시지: {}", body);
+        }
+    }
+
+    /**
+     * Redis 기준으로 bloom filter 재구성
+     * 만료된 항목을 정리하고, 연결이 끊긴 동안 놓친 메시지를 보정한다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${spring.security.jwt.denylist.rebuild-delay-ms:60000}",
+            initialDelayString = "${spring.security.jwt.denylist.rebuild-delay-ms:60000}")
+    public void rebuild() {
+        try {
+            stringRedisTemplate.opsForZSet().removeRangeByScore(DENYLIST_KEY, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+            Long size = stringRedisTemplate.opsForZSet().zCard(DENYLIST_KEY);
+
+            BloomFilter<CharSequence> next = newFilter(Math.max(expectedInsertions, size != null ? size * 2 : 0));
+            synchronized (filterLock) {
+                rebuilding = next;
+            }
+
+            Set<String> entries = stringRedisTemplate.opsForZSet().range(DENYLIST_KEY, 0, -1);
+            if (entries != null) {
+                entries.forEach(next::put);
+            }
+
+            synchronized (filterLock) {
+                filter = next;
+                rebuilding = null;
+            }
+            lastRebuildAt.set(System.currentTimeMillis());
+            log.debug("토큰 폐기 목록 동기화 완료: {} 건", entries != null ? entries.size() : 0);
+        } catch (DataAccessException e) {
+            synchronized (filterLock) {
+                rebuilding = null;
+            }
+            log.warn("토큰 폐기 목록 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    private void put(String entry) {
+        synchronized (filterLock) {
+            filter.put(entry);
+            if (rebuilding != null) {
+                rebuilding.put(entry);
+            }
+        }
+    }
+
+    private BloomFilter<CharSequence> newFilter(long insertions) {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), insertions, falsePositiveRate);
+    }
+}
@@ -0,0 +1,13 @@
+package setting.SettingServer.config.redis;
+
+/**
+ * 캐시 이름 (Redis 키는 "{캐시 이름}::{키}" 형식으로 통일)
+ */
+public final class CacheNames {
+
+    public static final String MEMBER = "member";
+    public static final String MEMBER_DIRECTORY = "memberDirectory";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,34 @@
+package setting.SettingServer.config.redis;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import setting.SettingServer.service.chat.ChatRoomBroadcaster;
+import setting.SettingServer.service.chat.LocalChatRoomBroadcaster;
+import setting.SettingServer.service.chat.RedisChatRoomBroadcaster;
+import setting.SettingServer.service.redis.RedisPubSubService;
+
+/**
+ * 브로커 모드별 채팅방 전달 방식 선택
+ */
+@Configuration
+public class ChatBrokerConfig {
+
+    @Value("${chat.broker.mode:simple}")
+    private ChatBrokerMode brokerMode;
+
+    @Bean
+    @ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+    public ChatRoomBroadcaster redisChatRoomBroadcaster(RedisPubSubService redisPubSubService) {
+        return new RedisChatRoomBroadcaster(redisPubSubService);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ChatRoomBroadcaster.class)
+    public ChatRoomBroadcaster localChatRoomBroadcaster(SimpMessageSendingOperations messagingTemplate) {
+        return new LocalChatRoomBroadcaster(messagingTemplate, brokerMode);
+    }
+}
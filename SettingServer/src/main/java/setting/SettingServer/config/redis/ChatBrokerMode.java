@@ -0,0 +1,56 @@
+package setting.SettingServer.config.redis;
+
+/**
+ * STOMP 브로커 모드 (chat.broker.mode)
+ * SIMPLE : 단일 노드 메모리 브로커
+ * REDIS  : 노드별 메모리 브로커 + Redis pub/sub 으로 노드 간 전달
+ * RELAY  : RabbitMQ STOMP 플러그인으로 브로커 릴레이
+ */
+public enum ChatBrokerMode {
+    SIMPLE,
+    REDIS,
+    RELAY;
+
+    // 유실되어도 되는 하위 채널 (느린 클라이언트에게는 먼저 버린다)
+    public static final String PRESENCE_CHANNEL = "presence";
+    public static final String EPHEMERAL_CHANNEL = "ephemeral";
+
+    /**
+     * 채팅방 구독 경로
+     * RabbitMQ STOMP 의 /topic 은 '.' 구분 라우팅 키를 사용하므로 릴레이 모드는 경로 형식이 다르다
+     */
+    public String roomDestination(String roomCode, String channel) {
+        if (this == RELAY) {
+            return channel == null ? "/topic/room." + roomCode : "/topic/room." + roomCode + "." + channel;
+        }
+        return channel == null ? "/sub/room/" + roomCode : "/sub/room/" + roomCode + "/" + channel;
+    }
+
+    /**
+     * 구독 경로에서 채팅방 코드 추출 (채팅방 경로가 아니면 null)
+     * /sub/room/{roomCode}[/{channel}] 또는 /topic/room.{roomCode}[.{channel}]
+     */
+    public String roomCodeOf(String destination) {
+        String prefix = this == RELAY ? "/topic/room." : "/sub/room/";
+        char separator = this == RELAY ? '.' : '/';
+        if (destination == null || !destination.startsWith(prefix)) {
+            return null;
+        }
+
+        String path = destination.substring(prefix.length());
+        int end = path.indexOf(separator);
+        String roomCode = end < 0 ? path : path.substring(0, end);
+        return roomCode.isEmpty() ? null : roomCode;
+    }
+
+    /**
+     * 휘발성 채널(presence, ephemeral) 경로인지 확인
+     */
+    public boolean isEphemeral(String destination) {
+        if (roomCodeOf(destination) == null) {
+            return false;
+        }
+        char separator = this == RELAY ? '.' : '/';
+        return destination.endsWith(separator + PRESENCE_CHANNEL) || destination.endsWith(separator + EPHEMERAL_CHANNEL);
+    }
+}
@@ -0,0 +1,25 @@
+package setting.SettingServer.config.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 목록 캐시
+ * 회원을 새로 만드는 곳(회원가입, OAuth 로그인)은 모두 이 컴포넌트로 목록 캐시를 비운다
+ * 캐시는 트랜잭션 동기화가 적용되어 있어 트랜잭션 중에 호출하면 커밋 후에 비워진다
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberDirectoryCache {
+
+    private final CacheManager cacheManager;
+
+    public void evictAll() {
+        Cache cache = cacheManager.getCache(CacheNames.MEMBER_DIRECTORY);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package setting.SettingServer.config.redis;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -7,21 +9,39 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 import java.time.Duration;
 
+/**
+ * 캐시 설정
+ * 서버 내 Caffeine(L1, 짧은 TTL) 뒤에 Redis(L2)를 두는 2단계 캐시를 사용한다
+ */
 @Configuration
 @EnableCaching
 public class RedisCacheConfig {
 
     @Bean
-    public CacheManager cacheManger(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManger(RedisConnectionFactory connectionFactory,
+                                    StringRedisTemplate stringRedisTemplate,
+                                    RedisMessageListenerContainer redisMessageListenerContainer,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.cache.local.ttl-seconds:30}") long localTtlSeconds,
+                                    @Value("${app.cache.local.maximum-size:10000}") long localMaximumSize) {
         RedisCacheConfiguration cacheConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(10))
                 .disableCachingNullValues();
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(cacheConfig)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate,
+                meterRegistry, Duration.ofSeconds(localTtlSeconds), localMaximumSize);
+        redisMessageListenerContainer.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return cacheManager;
     }
 }
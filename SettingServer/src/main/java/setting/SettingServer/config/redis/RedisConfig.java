@@ -8,13 +8,10 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import setting.SettingServer.dto.MemberProfileResponse;
 
-import java.util.List;
-
 @Configuration
 public class RedisConfig {
 
@@ -27,18 +24,6 @@ public class RedisConfig {
     @Value("${spring.data.redis.database}")
     private int redisDatabase;
 
-    @Bean
-    public RedisTemplate<String, List<MemberProfileResponse>> listRedisTemplate(RedisConnectionFactory connectionFactory) {
-        RedisTemplate<String, List<MemberProfileResponse>> template = new RedisTemplate<>();
-        template.setConnectionFactory(connectionFactory);
-
-        template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
-
-        return template;
-    }
-
     @Bean
     public RedisTemplate<String, MemberProfileResponse> redisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, MemberProfileResponse> template = new RedisTemplate<>();
@@ -0,0 +1,154 @@
+package setting.SettingServer.config.redis;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 2단계 캐시 (L1: 서버 내 Caffeine, L2: Redis)
+ * 조회는 L1 → L2 → 원본 순으로 하고, L2 에서 찾은 값은 L1 에 채운다.
+ * 변경(put/evict/clear)은 L2 와 자신의 L1 에 반영한 뒤 다른 서버의 L1 을 무효화하도록 알린다.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final CaffeineCache local;
+    private final RedisCache remote;
+    private final TwoLevelCacheManager.InvalidationPublisher invalidationPublisher;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    TwoLevelCache(CaffeineCache local, RedisCache remote,
+                  TwoLevelCacheManager.InvalidationPublisher invalidationPublisher, MeterRegistry meterRegistry) {
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+        registerMetrics(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.get(localKey(key));
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+
+        value = remote.get(key);
+        if (value != null) {
+            remoteHits.increment();
+            local.put(localKey(key), value.get());
+            return value;
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+
+        Object stored = value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("캐시 값의 타입이 일치하지 않습니다: " + type.getName());
+        }
+        return (T) stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper value = get(key);
+        if (value != null) {
+            return (T) value.get();
+        }
+
+        T loaded = remote.get(key, valueLoader);
+        if (loaded != null) {
+            local.put(localKey(key), loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(localKey(key), value);
+        invalidationPublisher.publish(getName(), key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.evict(localKey(key));
+        invalidationPublisher.publish(getName(), key);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.clear();
+        invalidationPublisher.publish(getName(), null);
+    }
+
+    // ================= 다른 서버의 무효화 메시지 처리 =================
+
+    void evictLocal(String key) {
+        local.evict(key);
+    }
+
+    void clearLocal() {
+        local.clear();
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        String name = getName();
+        FunctionCounter.builder("cache.two_level.gets", localHits, LongAdder::sum)
+                .tags("cache", name, "result", "l1_hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.two_level.gets", remoteHits, LongAdder::sum)
+                .tags("cache", name, "result", "l2_hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.two_level.gets", misses, LongAdder::sum)
+                .tags("cache", name, "result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cache.two_level.hit_ratio", this, cache -> cache.hitRatio(cache.localHits.sum() + cache.remoteHits.sum()))
+                .tags("cache", name, "level", "all")
+                .register(meterRegistry);
+        Gauge.builder("cache.two_level.hit_ratio", this, cache -> cache.hitRatio(cache.localHits.sum()))
+                .tags("cache", name, "level", "l1")
+                .register(meterRegistry);
+    }
+
+    // 무효화 메시지로 받은 키와 같게 찾을 수 있도록 L1 키는 문자열로 통일 (L2 키 형식과 동일)
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private double hitRatio(long hits) {
+        long total = localHits.sum() + remoteHits.sum() + misses.sum();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
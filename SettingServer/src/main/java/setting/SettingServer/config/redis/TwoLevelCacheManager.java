@@ -0,0 +1,108 @@
+package setting.SettingServer.config.redis;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 2단계 캐시 매니저
+ * 캐시마다 Caffeine(L1)과 RedisCache(L2)를 묶은 TwoLevelCache 를 만들고,
+ * cache:invalidate 채널로 받은 무효화 메시지를 해당 캐시의 L1 에 반영한다.
+ *
+ * - 메시지 형식: {nodeId}|{cacheName}|{key} (key 가 없으면 캐시 전체 비움)
+ * - 자신이 보낸 메시지는 이미 반영했으므로 무시한다
+ * - 캐시 변경은 트랜잭션 커밋 후에 반영한다 (TransactionAwareCacheDecorator)
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractCacheManager implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+    private static final String SEPARATOR = "|";
+
+    private final RedisCacheManager redisCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration localTtl;
+    private final long localMaximumSize;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager, StringRedisTemplate stringRedisTemplate,
+                                MeterRegistry meterRegistry, Duration localTtl, long localMaximumSize) {
+        this.redisCacheManager = redisCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.localTtl = localTtl;
+        this.localMaximumSize = localMaximumSize;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return List.of();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    private Cache createCache(String name) {
+        CaffeineCache local = new CaffeineCache(name, Caffeine.newBuilder()
+                .expireAfterWrite(localTtl)
+                .maximumSize(localMaximumSize)
+                .build(), false);
+        RedisCache remote = (RedisCache) redisCacheManager.getCache(name);
+
+        return new TransactionAwareCacheDecorator(
+                new TwoLevelCache(local, remote, this::publish, meterRegistry));
+    }
+
+    // ================= 무효화 =================
+
+    @FunctionalInterface
+    interface InvalidationPublisher {
+        void publish(String cacheName, Object key);
+    }
+
+    private void publish(String cacheName, Object key) {
+        String message = nodeId + SEPARATOR + cacheName + SEPARATOR + (key != null ? String.valueOf(key) : "");
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            // 다른 서버의 L1 은 TTL 이 지나면 갱신된다
+            log.warn("캐시 무효화 메시지 발행 실패: cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        Cache cache = lookupCache(parts[1]);
+        if (cache instanceof TransactionAwareCacheDecorator decorator
+                && decorator.getTargetCache() instanceof TwoLevelCache twoLevelCache) {
+            if (parts[2].isEmpty()) {
+                twoLevelCache.clearLocal();
+            } else {
+                twoLevelCache.evictLocal(parts[2]);
+            }
+        }
+    }
+}
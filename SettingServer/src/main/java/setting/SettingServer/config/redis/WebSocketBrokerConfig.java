@@ -0,0 +1,44 @@
+package setting.SettingServer.config.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+import setting.SettingServer.config.redis.websocket.SheddingSubProtocolWebSocketHandler;
+import setting.SettingServer.config.redis.websocket.SlowConsumerMetrics;
+import setting.SettingServer.config.redis.websocket.SlowConsumerPolicy;
+
+/**
+ * STOMP 메시지 브로커 설정 (@EnableWebSocketMessageBroker 대신 사용)
+ * 느린 클라이언트 정책을 적용하기 위해 SubProtocolWebSocketHandler 만 교체하고,
+ * 엔드포인트/브로커/채널 설정은 그대로 WebSocketConfig(WebSocketMessageBrokerConfigurer)가 담당한다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class WebSocketBrokerConfig extends DelegatingWebSocketMessageBrokerConfiguration {
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${chat.broker.mode:simple}")
+    private ChatBrokerMode brokerMode;
+
+    @Value("${chat.websocket.slow-consumer-policy:coalesce}")
+    private SlowConsumerPolicy slowConsumerPolicy;
+
+    public WebSocketBrokerConfig(MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(AbstractSubscribableChannel clientInboundChannel,
+                                                        AbstractSubscribableChannel clientOutboundChannel) {
+        return new SheddingSubProtocolWebSocketHandler(clientInboundChannel, clientOutboundChannel,
+                slowConsumerPolicy, brokerMode, new SlowConsumerMetrics(meterRegistry, slowConsumerPolicy), objectMapper);
+    }
+}
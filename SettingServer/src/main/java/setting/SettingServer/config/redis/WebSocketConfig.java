@@ -1,20 +1,65 @@
 package setting.SettingServer.config.redis;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.messaging.simp.config.TaskExecutorRegistration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import setting.SettingServer.config.redis.handler.StompHandler;
 
+/**
+ * STOMP 엔드포인트, 브로커, 채널 설정 (브로커 설정 클래스는 WebSocketBrokerConfig)
+ */
 @Configuration
-@EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
+    private final Environment environment;
+
+    @Value("${chat.broker.mode:simple}")
+    private ChatBrokerMode brokerMode;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${chat.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    // 세션별 전송 한도 (넘으면 chat.websocket.slow-consumer-policy 에 따라 처리)
+    @Value("${chat.websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimit;
+
+    @Value("${chat.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${chat.websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    // 클라이언트 전송 전용 스레드 풀
+    @Value("${chat.websocket.outbound.pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors() * 2}}")
+    private int outboundPoolSize;
+
+    @Value("${chat.websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    // 가상 스레드 모드에서 클라이언트 수신 채널의 동시 처리 상한 (핸들러가 DB/Redis 에서 블로킹되어도 스레드를 더 만들지 않는다)
+    @Value("${chat.websocket.inbound.virtual-concurrency:256}")
+    private int inboundVirtualConcurrency;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -25,14 +70,62 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        // 메모리 기반의 메시지 브로커가 해당 API를 구독하고 있는 클라이언트에게 메시지를 전달한다.
-        registry.enableSimpleBroker("/sub");
+        if (brokerMode == ChatBrokerMode.RELAY) {
+            // RabbitMQ STOMP 플러그인으로 구독을 위임하여 여러 노드가 같은 구독 정보를 공유한다.
+            registry.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+        } else {
+            // 메모리 기반의 메시지 브로커가 해당 API를 구독하고 있는 클라이언트에게 메시지를 전달한다.
+            // REDIS 모드에서는 노드 간 전달을 RedisSubscriberService 가 담당한다.
+            registry.enableSimpleBroker("/sub");
+        }
         // 클라이언트로부터 메시지를 받을 API의 prefix를 설정한다.
         registry.setApplicationDestinationPrefixes("/pub");
     }
 
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimit)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
+    }
+
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompHandler);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            registration.taskExecutor(virtualThreadExecutor("clientInboundChannel-"))
+                    .corePoolSize(inboundVirtualConcurrency)
+                    .maxPoolSize(inboundVirtualConcurrency);
+        }
+    }
+
+    /**
+     * 느린 세션은 SlowConsumerSessionDecorator 가 버퍼에 넣고 바로 반환하므로 전송 스레드가 한 세션에 묶이지 않는다.
+     * 대기열이 가득 차면 전달이 거부되고, 휘발성 이벤트는 재시도 없이 버려진다
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        TaskExecutorRegistration executor = Threading.VIRTUAL.isActive(environment)
+                ? registration.taskExecutor(virtualThreadExecutor("clientOutboundChannel-"))
+                : registration.taskExecutor();
+        executor.corePoolSize(outboundPoolSize)
+                .maxPoolSize(outboundPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    /**
+     * spring.threads.virtual.enabled=true (Java 21 이상)일 때 STOMP 채널 작업을 가상 스레드에서 실행
+     * 풀 크기는 동시에 실행되는 작업 수의 상한으로만 쓰인다
+     */
+    private ThreadPoolTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadFactory(new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory());
+        return executor;
     }
 }
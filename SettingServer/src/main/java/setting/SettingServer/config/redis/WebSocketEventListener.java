@@ -7,30 +7,48 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
-import setting.SettingServer.config.jwt.service.JwtService;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+import setting.SettingServer.service.chat.ChatPresenceService;
 
+/**
+ * STOMP 세션 이벤트를 접속 상태(presence)에 반영
+ */
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class WebSocketEventListener { // StompEventListener
 
-    private final JwtService jwtService;
+    private final ChatPresenceService chatPresenceService;
 
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectedEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
         String sessionId = headerAccessor.getSessionId();
 
-        log.info("[Connected] WebSocket session id: {}", sessionId);
+        // Principal 은 CONNECT 시 StompHandler 가 JWT 클레임으로 만든 것 (이름 = 회원 ID)
+        chatPresenceService.connect(sessionId, event.getUser());
+        log.debug("[Connected] WebSocket session id: {}", sessionId);
     }
 
     @EventListener
-    public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
+    public void handleWebSocketSubscribeListener(SessionSubscribeEvent event) {
+        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        chatPresenceService.subscribe(headerAccessor.getSessionId(), headerAccessor.getSubscriptionId(),
+                headerAccessor.getDestination());
+    }
 
+    @EventListener
+    public void handleWebSocketUnsubscribeListener(SessionUnsubscribeEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
-        String sessionId = headerAccessor.getSessionId();
+        chatPresenceService.unsubscribe(headerAccessor.getSessionId(), headerAccessor.getSubscriptionId());
+    }
 
-        log.info("[Disconnected] WebSocket session id: {}", sessionId);
+    @EventListener
+    public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
+        String sessionId = event.getSessionId();
 
+        chatPresenceService.disconnect(sessionId);
+        log.debug("[Disconnected] WebSocket session id: {}", sessionId);
     }
 }
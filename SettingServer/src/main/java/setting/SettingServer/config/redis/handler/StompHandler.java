@@ -9,27 +9,71 @@ import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import setting.SettingServer.common.exception.InvalidTokenException;
+import setting.SettingServer.config.jwt.dto.VerifiedClaims;
 import setting.SettingServer.config.jwt.service.JwtService;
+import setting.SettingServer.config.jwt.service.TokenDenylist;
+import setting.SettingServer.entity.Member;
+import setting.SettingServer.repository.MemberRepository;
+
+import java.util.List;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 @Order(Ordered.HIGHEST_PRECEDENCE + 99)
 public class StompHandler implements ChannelInterceptor {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final JwtService jwtService;
+    private final TokenDenylist tokenDenylist;
+    private final MemberRepository memberRepository;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
 
-        final StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(message);
+        final StompHeaderAccessor headerAccessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+
+        if (headerAccessor != null && StompCommand.CONNECT == headerAccessor.getCommand()) {
+            String authorization = jwtService.extractJwt(headerAccessor);
+            if (StringUtils.hasText(authorization) && authorization.startsWith(BEARER_PREFIX)) {
+                authorization = authorization.substring(BEARER_PREFIX.length());
+            }
 
-        if (StompCommand.CONNECT == headerAccessor.getCommand()) {
-            final String authorization = jwtService.extractJwt(headerAccessor);
+            VerifiedClaims claims = jwtService.parseVerified(authorization)
+                    .filter(VerifiedClaims::isAccessToken)
+                    .filter(verified -> !tokenDenylist.isRevoked(verified))
+                    .orElseThrow(() -> new InvalidTokenException("유효하지 않은 토큰입니다"));
 
-            jwtService.validateToken(authorization);
+            // 연결 단위 Principal: 이름을 회원 ID 로 두어 @MessageMapping 과 convertAndSendToUser 에서 그대로 사용
+            headerAccessor.setUser(createPrincipal(claims));
         }
 
         return ChannelInterceptor.super.preSend(message, channel);
     }
+
+    // 회원 ID/권한 클레임이 없는 이전 방식의 토큰만 회원을 조회
+    private UsernamePasswordAuthenticationToken createPrincipal(VerifiedClaims claims) {
+        if (claims.hasMemberClaims()) {
+            return createPrincipal(claims.memberId(), claims.role());
+        }
+
+        String email = Optional.ofNullable(claims.email())
+                .orElseThrow(() -> new InvalidTokenException("토큰에서 이메일을 찾을 수 없습니다"));
+        Member member = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new InvalidTokenException("회원을 찾을 수 없습니다"));
+        return createPrincipal(member.getId(), member.getRole() != null ? member.getRole().name() : null);
+    }
+
+    // 권한 없이 생성된 회원은 권한 없이 연결한다 (보정 전 데이터)
+    private UsernamePasswordAuthenticationToken createPrincipal(Long memberId, String role) {
+        List<SimpleGrantedAuthority> authorities = role != null ? List.of(new SimpleGrantedAuthority(role)) : List.of();
+        return new UsernamePasswordAuthenticationToken(String.valueOf(memberId), null, authorities);
+    }
 }
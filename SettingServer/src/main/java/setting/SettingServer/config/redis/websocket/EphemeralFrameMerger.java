@@ -0,0 +1,115 @@
+package setting.SettingServer.config.redis.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.socket.TextMessage;
+import setting.SettingServer.config.redis.ChatBrokerMode;
+import setting.SettingServer.dto.chat.EphemeralEventBatch;
+import setting.SettingServer.dto.chat.PresenceDiff;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 휘발성 채널 STOMP 프레임 병합
+ * presence, ephemeral 프레임은 변경분이므로 오래된 프레임을 버리면 접속/퇴장, 입력 종료, 읽음 위치가 유실된다.
+ * 같은 경로의 두 프레임을 하나의 변경분으로 합쳐 최신 프레임의 헤더로 다시 만든다.
+ *
+ * - presence : 회원별 마지막 접속 상태
+ * - ephemeral: 회원별 마지막 입력 중 상태와 가장 큰 읽음 위치
+ */
+class EphemeralFrameMerger {
+
+    private static final String HEADERS_END = "\n\n";
+    private static final String CONTENT_LENGTH_HEADER = "content-length:";
+
+    private final ObjectMapper objectMapper;
+
+    EphemeralFrameMerger(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return 합칠 수 없는 프레임이면 null (호출 측은 두 프레임을 그대로 둔다)
+     */
+    TextMessage merge(TextMessage older, TextMessage newer, String destination) {
+        String olderBody = bodyOf(older.getPayload());
+        String newerFrame = newer.getPayload();
+        String newerBody = bodyOf(newerFrame);
+        if (olderBody == null || newerBody == null) {
+            return null;
+        }
+
+        try {
+            Object merged = destination.endsWith(ChatBrokerMode.PRESENCE_CHANNEL)
+                    ? mergePresence(objectMapper.readValue(olderBody, PresenceDiff.class),
+                                    objectMapper.readValue(newerBody, PresenceDiff.class))
+                    : mergeEvents(objectMapper.readValue(olderBody, EphemeralEventBatch.class),
+                                  objectMapper.readValue(newerBody, EphemeralEventBatch.class));
+            return new TextMessage(withBody(newerFrame, objectMapper.writeValueAsString(merged)));
+        } catch (JsonProcessingException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    static PresenceDiff mergePresence(PresenceDiff older, PresenceDiff newer) {
+        Map<Long, Boolean> online = new LinkedHashMap<>();
+        applyPresence(online, older);
+        applyPresence(online, newer);
+
+        return new PresenceDiff(newer.roomCode(),
+                online.entrySet().stream().filter(Map.Entry::getValue).map(Map.Entry::getKey).toList(),
+                online.entrySet().stream().filter(entry -> !entry.getValue()).map(Map.Entry::getKey).toList());
+    }
+
+    private static void applyPresence(Map<Long, Boolean> online, PresenceDiff diff) {
+        if (diff.online() != null) {
+            diff.online().forEach(memberId -> online.put(memberId, true));
+        }
+        if (diff.offline() != null) {
+            diff.offline().forEach(memberId -> online.put(memberId, false));
+        }
+    }
+
+    static EphemeralEventBatch mergeEvents(EphemeralEventBatch older, EphemeralEventBatch newer) {
+        Map<Long, EphemeralEventBatch.Typing> typing = new LinkedHashMap<>();
+        Map<Long, EphemeralEventBatch.ReadCursor> readCursors = new LinkedHashMap<>();
+        for (EphemeralEventBatch batch : List.of(older, newer)) {
+            if (batch.typing() != null) {
+                batch.typing().forEach(event -> typing.put(event.memberId(), event));
+            }
+            if (batch.readCursors() != null) {
+                batch.readCursors().forEach(cursor -> readCursors.merge(cursor.memberId(), cursor,
+                        (previous, next) -> next.messageId() >= previous.messageId() ? next : previous));
+            }
+        }
+        return new EphemeralEventBatch(newer.roomCode(), List.copyOf(typing.values()), List.copyOf(readCursors.values()));
+    }
+
+    // ================= STOMP 프레임 =================
+
+    // 프레임은 "헤더\n\n본문\0" 형식
+    private static String bodyOf(String frame) {
+        int headersEnd = frame.indexOf(HEADERS_END);
+        if (headersEnd < 0) {
+            return null;
+        }
+        int bodyEnd = frame.lastIndexOf('\0');
+        return frame.substring(headersEnd + HEADERS_END.length(), bodyEnd > headersEnd ? bodyEnd : frame.length());
+    }
+
+    // 최신 프레임의 헤더를 유지하고 본문과 content-length 만 바꾼다
+    private static String withBody(String frame, String body) {
+        String[] headers = frame.substring(0, frame.indexOf(HEADERS_END)).split("\n", -1);
+        StringBuilder builder = new StringBuilder(frame.length());
+        for (String header : headers) {
+            if (header.startsWith(CONTENT_LENGTH_HEADER)) {
+                header = CONTENT_LENGTH_HEADER + body.getBytes(StandardCharsets.UTF_8).length;
+            }
+            builder.append(header).append('\n');
+        }
+        return builder.append('\n').append(body).append('\0').toString();
+    }
+}
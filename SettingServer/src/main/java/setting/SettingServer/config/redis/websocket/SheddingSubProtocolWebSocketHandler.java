@@ -0,0 +1,39 @@
+package setting.SettingServer.config.redis.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+import setting.SettingServer.config.redis.ChatBrokerMode;
+
+/**
+ * 세션을 ConcurrentWebSocketSessionDecorator 대신 SlowConsumerSessionDecorator 로 감싸는 STOMP 핸들러
+ * 전송 시간/버퍼 한도는 WebSocketConfig 의 transport 설정(setSendTimeLimit, setSendBufferSizeLimit)을 그대로 사용한다
+ */
+public class SheddingSubProtocolWebSocketHandler extends SubProtocolWebSocketHandler {
+
+    private final SlowConsumerPolicy policy;
+    private final ChatBrokerMode brokerMode;
+    private final SlowConsumerMetrics metrics;
+    private final EphemeralFrameMerger merger;
+
+    public SheddingSubProtocolWebSocketHandler(MessageChannel clientInboundChannel,
+                                               SubscribableChannel clientOutboundChannel,
+                                               SlowConsumerPolicy policy,
+                                               ChatBrokerMode brokerMode,
+                                               SlowConsumerMetrics metrics,
+                                               ObjectMapper objectMapper) {
+        super(clientInboundChannel, clientOutboundChannel);
+        this.policy = policy;
+        this.brokerMode = brokerMode;
+        this.metrics = metrics;
+        this.merger = new EphemeralFrameMerger(objectMapper);
+    }
+
+    @Override
+    protected WebSocketSession decorateSession(WebSocketSession session) {
+        return new SlowConsumerSessionDecorator(session, getSendTimeLimit(), getSendBufferSizeLimit(),
+                policy, brokerMode, metrics, merger);
+    }
+}
@@ -0,0 +1,47 @@
+package setting.SettingServer.config.redis.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 느린 클라이언트 처리 메트릭 (chat.websocket.slow_consumer, action 태그별 프레임/세션 수)
+ */
+public class SlowConsumerMetrics {
+
+    private final Counter dropped;
+    private final Counter coalesced;
+    private final Counter bufferDisconnects;
+    private final Counter timeDisconnects;
+
+    public SlowConsumerMetrics(MeterRegistry meterRegistry, SlowConsumerPolicy policy) {
+        this.dropped = counter(meterRegistry, policy, "dropped", "buffer");
+        this.coalesced = counter(meterRegistry, policy, "coalesced", "buffer");
+        this.bufferDisconnects = counter(meterRegistry, policy, "disconnected", "buffer");
+        this.timeDisconnects = counter(meterRegistry, policy, "disconnected", "send_time");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, SlowConsumerPolicy policy, String action, String reason) {
+        return Counter.builder("chat.websocket.slow_consumer")
+                .tag("policy", policy.name().toLowerCase())
+                .tag("action", action)
+                .tag("reason", reason)
+                .description("전송 한도를 넘은 세션에 대한 처리 횟수 (버린 프레임 수 또는 끊은 세션 수)")
+                .register(meterRegistry);
+    }
+
+    void dropped(int frames) {
+        dropped.increment(frames);
+    }
+
+    void coalesced(int frames) {
+        coalesced.increment(frames);
+    }
+
+    void disconnectedByBuffer() {
+        bufferDisconnects.increment();
+    }
+
+    void disconnectedBySendTime() {
+        timeDisconnects.increment();
+    }
+}
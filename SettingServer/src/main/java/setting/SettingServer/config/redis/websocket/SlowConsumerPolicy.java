@@ -0,0 +1,14 @@
+package setting.SettingServer.config.redis.websocket;
+
+/**
+ * 전송 버퍼가 한도를 넘은 세션 처리 방식 (chat.websocket.slow-consumer-policy)
+ * DROP_OLDEST : 가장 오래된 프레임부터 버린다
+ * COALESCE    : 휘발성 채널(presence, ephemeral) 프레임을 경로별로 하나의 변경분으로 합치고, 그래도 넘치면 연결을 끊는다.
+ *               (변경분을 버리면 클라이언트 상태가 어긋나므로 버리지 않는다)
+ * DISCONNECT  : 연결을 끊는다 (클라이언트가 재접속 후 메시지를 다시 조회)
+ */
+public enum SlowConsumerPolicy {
+    DROP_OLDEST,
+    COALESCE,
+    DISCONNECT
+}
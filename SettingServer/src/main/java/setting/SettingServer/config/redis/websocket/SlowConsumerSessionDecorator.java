@@ -0,0 +1,259 @@
+package setting.SettingServer.config.redis.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import setting.SettingServer.config.redis.ChatBrokerMode;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 느린 클라이언트 세션 데코레이터
+ * ConcurrentWebSocketSessionDecorator 와 같이 한 번에 한 스레드만 소켓에 쓰고 나머지 스레드는 버퍼에 넣고 바로 반환하며,
+ * 버퍼가 한도를 넘으면 SlowConsumerPolicy 에 따라 프레임을 버리거나 합치거나 연결을 끊는다.
+ * 휘발성 채널 프레임은 변경분이므로 버리지 않고 EphemeralFrameMerger 로 합친다.
+ *
+ * - 전송 시간 한도를 넘은 세션은 정책과 관계없이 끊는다 (소켓 쓰기가 멈춘 상태에서는 버려도 회복되지 않는다)
+ * - 휘발성 채널 여부는 STOMP MESSAGE 프레임의 destination 헤더로 판단한다
+ */
+@Slf4j
+public class SlowConsumerSessionDecorator extends WebSocketSessionDecorator {
+
+    private static final String DESTINATION_HEADER = "\ndestination:";
+
+    private final int sendTimeLimit;
+    private final int bufferSizeLimit;
+    private final SlowConsumerPolicy policy;
+    private final ChatBrokerMode brokerMode;
+    private final SlowConsumerMetrics metrics;
+    private final EphemeralFrameMerger merger;
+
+    // buffer 는 자기 자신으로 동기화
+    private final Deque<WebSocketMessage<?>> buffer = new ArrayDeque<>();
+    private final AtomicInteger bufferSize = new AtomicInteger();
+    private volatile long sendStartTime;
+    private volatile boolean limitExceeded;
+    private volatile boolean closeInProgress;
+
+    private final Lock flushLock = new ReentrantLock();
+    private final Lock closeLock = new ReentrantLock();
+
+    SlowConsumerSessionDecorator(WebSocketSession delegate, int sendTimeLimit, int bufferSizeLimit,
+                                 SlowConsumerPolicy policy, ChatBrokerMode brokerMode, SlowConsumerMetrics metrics,
+                                 EphemeralFrameMerger merger) {
+        super(delegate);
+        this.sendTimeLimit = sendTimeLimit;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.policy = policy;
+        this.brokerMode = brokerMode;
+        this.metrics = metrics;
+        this.merger = merger;
+    }
+
+    public int getBufferSize() {
+        return bufferSize.get();
+    }
+
+    public long getTimeSinceSendStarted() {
+        long start = sendStartTime;
+        return start > 0 ? System.currentTimeMillis() - start : 0;
+    }
+
+    // ================= 전송 =================
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (shouldNotSend()) {
+            return;
+        }
+
+        synchronized (buffer) {
+            buffer.addLast(message);
+        }
+        bufferSize.addAndGet(message.getPayloadLength());
+
+        do {
+            if (!tryFlushMessageBuffer()) {
+                // 다른 스레드가 전송 중이면 버퍼에 남기고 반환
+                checkSessionLimits();
+                break;
+            }
+        } while (!isBufferEmpty() && !shouldNotSend());
+    }
+
+    private boolean tryFlushMessageBuffer() throws IOException {
+        if (!flushLock.tryLock()) {
+            return false;
+        }
+        try {
+            while (!shouldNotSend()) {
+                WebSocketMessage<?> message;
+                synchronized (buffer) {
+                    message = buffer.pollFirst();
+                }
+                if (message == null) {
+                    break;
+                }
+                bufferSize.addAndGet(-message.getPayloadLength());
+                sendStartTime = System.currentTimeMillis();
+                getDelegate().sendMessage(message);
+                sendStartTime = 0;
+            }
+        } finally {
+            sendStartTime = 0;
+            flushLock.unlock();
+        }
+        return true;
+    }
+
+    private boolean isBufferEmpty() {
+        synchronized (buffer) {
+            return buffer.isEmpty();
+        }
+    }
+
+    private boolean shouldNotSend() {
+        return limitExceeded || closeInProgress;
+    }
+
+    // ================= 한도 처리 =================
+
+    private void checkSessionLimits() {
+        if (shouldNotSend() || !closeLock.tryLock()) {
+            return;
+        }
+        try {
+            if (getTimeSinceSendStarted() > sendTimeLimit) {
+                metrics.disconnectedBySendTime();
+                limitExceeded(String.format("전송 시간 %d ms 초과 (id=%s)", sendTimeLimit, getId()));
+            } else if (bufferSize.get() > bufferSizeLimit) {
+                shed();
+            }
+        } finally {
+            closeLock.unlock();
+        }
+    }
+
+    private void shed() {
+        switch (policy) {
+            case DROP_OLDEST -> metrics.dropped(dropOldestWhileOverLimit());
+            case COALESCE -> metrics.coalesced(coalesceEphemeral());
+            case DISCONNECT -> { }
+        }
+
+        if (bufferSize.get() > bufferSizeLimit) {
+            metrics.disconnectedByBuffer();
+            limitExceeded(String.format("전송 버퍼 %d bytes 초과 (id=%s)", bufferSizeLimit, getId()));
+        }
+    }
+
+    // 오래된 프레임부터 한도 아래가 될 때까지 버린다
+    private int dropOldestWhileOverLimit() {
+        int dropped = 0;
+        synchronized (buffer) {
+            Iterator<WebSocketMessage<?>> iterator = buffer.iterator();
+            while (bufferSize.get() > bufferSizeLimit && iterator.hasNext()) {
+                WebSocketMessage<?> message = iterator.next();
+                iterator.remove();
+                bufferSize.addAndGet(-message.getPayloadLength());
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    // 같은 휘발성 경로로 가는 프레임을 하나로 합친다 (합친 프레임은 최신 프레임 자리에 둔다)
+    private int coalesceEphemeral() {
+        int coalesced = 0;
+        synchronized (buffer) {
+            List<WebSocketMessage<?>> messages = new ArrayList<>(buffer);
+            Map<String, Integer> latest = new HashMap<>();
+            int sizeDelta = 0;
+            for (int i = 0; i < messages.size(); i++) {
+                WebSocketMessage<?> message = messages.get(i);
+                String destination = destinationOf(message);
+                if (destination == null || !brokerMode.isEphemeral(destination)) {
+                    continue;
+                }
+                Integer previousIndex = latest.put(destination, i);
+                if (previousIndex == null) {
+                    continue;
+                }
+
+                WebSocketMessage<?> previous = messages.get(previousIndex);
+                TextMessage merged = merger.merge((TextMessage) previous, (TextMessage) message, destination);
+                if (merged == null) {
+                    // 합칠 수 없으면 둘 다 그대로 보낸다
+                    continue;
+                }
+                messages.set(previousIndex, null);
+                messages.set(i, merged);
+                sizeDelta += merged.getPayloadLength() - previous.getPayloadLength() - message.getPayloadLength();
+                coalesced++;
+            }
+
+            if (coalesced > 0) {
+                buffer.clear();
+                messages.stream().filter(Objects::nonNull).forEach(buffer::addLast);
+                bufferSize.addAndGet(sizeDelta);
+            }
+        }
+        return coalesced;
+    }
+
+    private void limitExceeded(String reason) {
+        limitExceeded = true;
+        synchronized (buffer) {
+            buffer.clear();
+        }
+        bufferSize.set(0);
+        log.debug("느린 클라이언트 연결 종료: {}", reason);
+        // SubProtocolWebSocketHandler 가 SESSION_NOT_RELIABLE 로 세션을 닫는다
+        throw new SessionLimitExceededException(reason, CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    // STOMP 프레임 헤더에서 destination 추출 (헤더 영역만 확인)
+    private static String destinationOf(WebSocketMessage<?> message) {
+        if (!(message instanceof TextMessage textMessage)) {
+            return null;
+        }
+        String frame = textMessage.getPayload();
+        int headersEnd = frame.indexOf("\n\n");
+        int start = frame.indexOf(DESTINATION_HEADER);
+        if (start < 0 || (headersEnd >= 0 && start > headersEnd)) {
+            return null;
+        }
+        start += DESTINATION_HEADER.length();
+        int end = frame.indexOf('\n', start);
+        return frame.substring(start, end < 0 ? frame.length() : end);
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        if (closeInProgress) {
+            return;
+        }
+        closeInProgress = true;
+        super.close(status);
+    }
+
+    @Override
+    public String toString() {
+        return getDelegate().toString();
+    }
+}
@@ -1,6 +1,7 @@
 package setting.SettingServer.controller;
 
 import com.google.api.gax.rpc.NotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -8,6 +9,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import setting.SettingServer.common.exception.DuplicateEmailException;
+import setting.SettingServer.common.exception.InvalidTokenException;
 import setting.SettingServer.common.exception.LoginFailureException;
 import setting.SettingServer.common.oauth.AuthTokens;
 import setting.SettingServer.config.jwt.service.LoginService;
@@ -74,6 +76,23 @@ public class AuthController {
         }
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity refresh(HttpServletRequest request) {
+        try {
+            return ResponseEntity.ok(authService.reissue(request));
+        } catch (InvalidTokenException e) {
+            return ResponseEntity
+                    .status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("Error", "Failed Refresh", "Message", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity logout(HttpServletRequest request) {
+        authService.logout(request);
+        return ResponseEntity.ok().body(Map.of("Message", "로그아웃 완료"));
+    }
+
     @GetMapping("/profile")
     public ResponseEntity<ProfileResponse> getProfile(@AuthenticationPrincipal UserDetails userDetails) {
         String email = userDetails.getUsername();
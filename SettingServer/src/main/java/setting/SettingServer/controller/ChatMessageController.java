@@ -0,0 +1,72 @@
+package setting.SettingServer.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Controller;
+import setting.SettingServer.common.exception.UnauthorizedException;
+import setting.SettingServer.dto.chat.ReadCursorRequest;
+import setting.SettingServer.dto.chat.SendChatMessageRequest;
+import setting.SettingServer.dto.chat.TypingRequest;
+import setting.SettingServer.service.chat.ChatEphemeralService;
+import setting.SettingServer.service.chat.ChatMessageService;
+
+import java.security.Principal;
+
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class ChatMessageController {
+
+    private final ChatMessageService chatMessageService;
+    private final ChatEphemeralService chatEphemeralService;
+
+    /**
+     * 채팅 메시지 전송
+     * 클라이언트는 /pub/chat/rooms/{roomCode}/messages 로 전송하고, /sub/room/{roomCode} 구독으로 수신한다
+     */
+    @MessageMapping("/chat/rooms/{roomCode}/messages")
+    public void sendMessage(@DestinationVariable String roomCode,
+                            @Payload @Valid SendChatMessageRequest request,
+                            Principal principal) {
+        if (principal == null) {
+            throw new UnauthorizedException("인증되지 않은 연결입니다");
+        }
+
+        log.debug("채팅 메시지 전송: roomCode={}, memberId={}", roomCode, principal.getName());
+        chatMessageService.sendMessage(roomCode, Long.parseLong(principal.getName()), request.content());
+    }
+
+    /**
+     * 입력 중 상태 전송 (저장하지 않음)
+     * 클라이언트는 /pub/chat/rooms/{roomCode}/typing 으로 전송하고, /sub/room/{roomCode}/ephemeral 구독으로 수신한다
+     */
+    @MessageMapping("/chat/rooms/{roomCode}/typing")
+    public void typing(@DestinationVariable String roomCode,
+                       @Payload TypingRequest request,
+                       Principal principal) {
+        if (principal == null) {
+            throw new UnauthorizedException("인증되지 않은 연결입니다");
+        }
+
+        chatEphemeralService.typing(roomCode, Long.parseLong(principal.getName()), request.typing());
+    }
+
+    /**
+     * 읽음 위치 전송 (읽음 처리는 모아서 반영하고, 다른 멤버에게는 휘발성 이벤트로 전달)
+     * 클라이언트는 /pub/chat/rooms/{roomCode}/read-cursor 로 전송하고, /sub/room/{roomCode}/ephemeral 구독으로 수신한다
+     */
+    @MessageMapping("/chat/rooms/{roomCode}/read-cursor")
+    public void readCursor(@DestinationVariable String roomCode,
+                           @Payload @Valid ReadCursorRequest request,
+                           Principal principal) {
+        if (principal == null) {
+            throw new UnauthorizedException("인증되지 않은 연결입니다");
+        }
+
+        chatEphemeralService.readCursor(roomCode, Long.parseLong(principal.getName()), request.messageId());
+    }
+}
@@ -11,6 +11,7 @@ import setting.SettingServer.service.chat.ChatRoomService;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
@@ -100,6 +101,25 @@ public class ChatRoomController {
         return ResponseEntity.ok(messages);
     }
 
+    /**
+     * 채팅방 메시지 커서 조회 (무한 스크롤)
+     * @param roomCode
+     * @param userId
+     * @param before 이 메시지 ID 이전의 메시지를 조회 (없으면 최신부터)
+     * @param limit
+     * @return
+     */
+    @GetMapping(value = "/{roomCode}/messages", params = "limit")
+    public ResponseEntity<ChatMessageSliceDto> getChatMessagesBefore(@PathVariable String roomCode,
+                                                                     @RequestParam Long userId,
+                                                                     @RequestParam(required = false) Long before,
+                                                                     @RequestParam int limit) {
+        log.info("채팅 메시지 커서 조회: roomCode={}, userId={}, before={}, limit={}", roomCode, userId, before, limit);
+
+        ChatMessageSliceDto messages = chatRoomService.getChatMessagesBefore(roomCode, userId, before, limit);
+        return ResponseEntity.ok(messages);
+    }
+
     /**
      * 채팅방 멤버 초대
      * @param roomCode
@@ -160,6 +180,15 @@ public class ChatRoomController {
         return ResponseEntity.ok(memberDtos);
     }
 
+    /**
+     * 채팅방 접속 중인 멤버 조회
+     * @return
+     */
+    @GetMapping("/{roomCode}/presence")
+    public ResponseEntity<Set<Long>> getOnlineMembers(@PathVariable String roomCode,
+                                                      @RequestParam Long userId) {
+        return ResponseEntity.ok(chatRoomService.getOnlineMembers(roomCode, userId));
+    }
 
     @PostMapping("/{roomCode}/read-all")
     public ResponseEntity<Boolean> markAllMessagesAsRead(@PathVariable String roomCode,
@@ -181,7 +210,7 @@ public class ChatRoomController {
                                                      @RequestParam Long userId) {
         log.debug("메시지 읽음 처리: roomCode={}, messageId={}, userId={}", roomCode, messageId, userId);
 
-        boolean result = chatRoomService.markMessageAsRead(roomCode, messageId, userId);
+        boolean result = chatRoomService.markMessageAsRead(roomCode, userId, messageId);
 
         return ResponseEntity.ok(result);
     }
@@ -6,15 +6,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.web.bind.annotation.*;
-import setting.SettingServer.common.CustomUserDetails;
 import setting.SettingServer.common.oauth.JwtAuthenticationToken;
+import setting.SettingServer.config.CurrentMember;
 import setting.SettingServer.dto.SendDirectMessageCommand;
 import setting.SettingServer.dto.chat.ChatContactResponse;
 import setting.SettingServer.dto.chat.MessageNewNotification;
@@ -22,6 +20,7 @@ import setting.SettingServer.entity.DirectMessage;
 import setting.SettingServer.service.DirectMessageService;
 import setting.SettingServer.service.request.SendDirectMessageRequest;
 import setting.SettingServer.service.response.DirectMessageResponse;
+import setting.SettingServer.service.response.DirectMessageSliceResponse;
 
 import java.net.URI;
 import java.time.LocalDateTime;
@@ -36,6 +35,7 @@ public class DirectMessageController {
 
     private final DirectMessageService directMessageService;
     private final SimpMessagingTemplate simpMessagingTemplate;
+    private final CurrentMember currentMember;
 
     /***
      * [클라이언트] → Request → [컨트롤러] → Command → [서비스] → 엔티티/도메인 처리 → [서비스] → Response → [컨트롤러] → [클라이언트]
@@ -72,28 +72,43 @@ public class DirectMessageController {
 
     // 보낸 메시지 목록 조회
     @GetMapping("/sent")
-    public ResponseEntity<Page<DirectMessageResponse>> getSentMessage(@RequestParam(defaultValue = "0") int page,
+    public ResponseEntity<Slice<DirectMessageResponse>> getSentMessage(@RequestParam(defaultValue = "0") int page,
                                                                       @RequestParam(defaultValue = "20") int size) {
 
         Long currentUserId = getCurrentUserId();
         log.debug("보낸 메시지 목록 요청: 사용자 ID={}, 페이지={}, 크기={}", currentUserId, page, size);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("sentAt").descending());
-        Page<DirectMessageResponse> messages = directMessageService.getSentMessages(currentUserId, pageable);
+        Slice<DirectMessageResponse> messages = directMessageService.getSentMessages(currentUserId, pageable);
 
         return ResponseEntity.ok(messages);
     }
 
     @GetMapping("/conversation/{otherUserId}")
-    public ResponseEntity<Page<DirectMessageResponse>> getConversation(@PathVariable Long otherUserId,
+    public ResponseEntity<Slice<DirectMessageResponse>> getConversation(@PathVariable Long otherUserId,
                                                                  @RequestParam(defaultValue = "0") int page,
                                                                  @RequestParam(defaultValue = "20") int size) {
 
         Long currentUserId = getCurrentUserId();
         log.debug("대화 내용 요청: 사용자 ID={}, 상대방 ID={}, 페이지={}, 크기={}", currentUserId, otherUserId, page, size);
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("sentAt").descending());
-        Page<DirectMessageResponse> conversation = directMessageService.getConversation(currentUserId, otherUserId, pageable);
+        // 정렬은 쿼리에서 id 역순으로 고정
+        Pageable pageable = PageRequest.of(page, size);
+        Slice<DirectMessageResponse> conversation = directMessageService.getConversation(currentUserId, otherUserId, pageable);
+
+        return ResponseEntity.ok(conversation);
+    }
+
+    // 대화 내용 커서 조회 (무한 스크롤)
+    @GetMapping(value = "/conversation/{otherUserId}", params = "limit")
+    public ResponseEntity<DirectMessageSliceResponse> getConversationBefore(@PathVariable Long otherUserId,
+                                                                            @RequestParam(required = false) Long before,
+                                                                            @RequestParam int limit) {
+
+        Long currentUserId = getCurrentUserId();
+        log.debug("대화 내용 커서 요청: 사용자 ID={}, 상대방 ID={}, before={}, limit={}", currentUserId, otherUserId, before, limit);
+
+        DirectMessageSliceResponse conversation = directMessageService.getConversationBefore(currentUserId, otherUserId, before, limit);
 
         return ResponseEntity.ok(conversation);
     }
@@ -155,17 +170,7 @@ public class DirectMessageController {
     }
 
     private Long getCurrentUserId() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        Object principal = auth.getPrincipal();
-
-        if (principal instanceof CustomUserDetails) {
-            return ((CustomUserDetails) principal).getId();
-        } else if (principal instanceof OAuth2User) {
-            OAuth2User oauth2User = (OAuth2User) principal;
-            return Long.parseLong(oauth2User.getAttribute("sub"));
-        }
-
-        throw new IllegalStateException("지원되지 않는 인증 방식입니다");
+        return currentMember.getId();
     }
 
 
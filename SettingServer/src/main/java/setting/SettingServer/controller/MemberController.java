@@ -6,18 +6,20 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import setting.SettingServer.dto.MemberDirectoryResponse;
 import setting.SettingServer.dto.MemberProfileResponse;
 import setting.SettingServer.dto.MemberResponse;
 import setting.SettingServer.dto.MemberUpdateRequest;
 import setting.SettingServer.service.MemberService;
 
-import java.util.List;
-
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/v1/members")
 public class MemberController {
 
+    private static final int MAX_DIRECTORY_SIZE = 100;
+
     private final MemberService memberService;
 
     @GetMapping("/{id}")
@@ -26,10 +28,19 @@ public class MemberController {
         return ResponseEntity.ok(member);
     }
 
-    @GetMapping("/findAll")
-    public ResponseEntity<List<MemberProfileResponse>> findAllMember() {
-        List<MemberProfileResponse> members = memberService.findAllMember();
-        return ResponseEntity.ok(members);
+    @GetMapping
+    public ResponseEntity<MemberDirectoryResponse> getMemberDirectory(@RequestParam(value = "cursor", required = false) Long cursor,
+                                                                      @RequestParam(value = "size", defaultValue = "20") int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_DIRECTORY_SIZE));
+        return ResponseEntity.ok(memberService.getMemberDirectory(cursor, pageSize));
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportMembers() {
+        StreamingResponseBody body = memberService::exportMembers;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
     }
 
     @PatchMapping(value = "/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -39,6 +50,12 @@ public class MemberController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    @PostMapping("/{id}/sign-out")
+    public ResponseEntity<Void> signOutMember(@PathVariable(value = "id") Long id) {
+        memberService.signOut(id);
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteMember(@PathVariable(value = "id") Long id) {
         memberService.deleteMember(id);
@@ -0,0 +1,13 @@
+package setting.SettingServer.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 회원 목록 (커서 기반)
+ * @param members
+ * @param nextCursor 다음 페이지 조회 시 cursor 로 전달할 마지막 회원 ID (다음 페이지가 없으면 null)
+ * @param hasNext
+ */
+public record MemberDirectoryResponse(List<MemberProfileResponse> members, Long nextCursor, boolean hasNext) implements Serializable {
+}
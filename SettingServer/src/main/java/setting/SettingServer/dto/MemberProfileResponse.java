@@ -19,6 +19,14 @@ public record MemberProfileResponse(Long id, String email, String name, String i
         );
     }
 
+    /**
+     * 엔티티 없이 컬럼 값으로 생성 (내보내기 등), 프로필 이미지 기본값은 from 과 동일하게 적용
+     */
+    public static MemberProfileResponse of(Long id, String email, String name, String imageUrl, ProviderType providerType) {
+        String finalImageUrl = !isOAuthProvider(providerType) && (imageUrl == null || imageUrl.isEmpty()) ? "" : imageUrl;
+        return new MemberProfileResponse(id, email, name, finalImageUrl, providerType);
+    }
+
     private static String determineProfileImageUrl(Member member) {
         if (isOAuthProvider(member.getType())) {
             member.updateProfileImageUrl(member.getImageUrl());
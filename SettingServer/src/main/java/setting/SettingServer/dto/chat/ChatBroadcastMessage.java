@@ -0,0 +1,12 @@
+package setting.SettingServer.dto.chat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 노드 간 채팅방 브로드캐스트 메시지
+ * @param roomCode
+ * @param channel 하위 채널 (기본 채널이면 null)
+ * @param payload 구독자에게 그대로 전달할 본문
+ */
+public record ChatBroadcastMessage(String roomCode, String channel, JsonNode payload) {
+}
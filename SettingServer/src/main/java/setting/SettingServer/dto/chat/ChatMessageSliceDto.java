@@ -0,0 +1,12 @@
+package setting.SettingServer.dto.chat;
+
+import java.util.List;
+
+/**
+ * 채팅 메시지 커서 조회 응답 DTO
+ * @param messages 오래된 순으로 정렬된 메시지
+ * @param nextCursor 다음 요청의 before 값 (더 이상 없으면 null)
+ * @param hasNext
+ */
+public record ChatMessageSliceDto(List<ChatMessageDto> messages, Long nextCursor, boolean hasNext) {
+}
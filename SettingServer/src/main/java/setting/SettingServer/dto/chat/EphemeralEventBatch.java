@@ -0,0 +1,18 @@
+package setting.SettingServer.dto.chat;
+
+import java.util.List;
+
+/**
+ * 채팅방 휘발성 이벤트 묶음 (flush 주기 동안 회원별로 마지막 상태만 모아 한 번에 전달)
+ * @param roomCode
+ * @param typing 입력 중 상태가 바뀐 회원
+ * @param readCursors 읽음 위치가 바뀐 회원
+ */
+public record EphemeralEventBatch(String roomCode, List<Typing> typing, List<ReadCursor> readCursors) {
+
+    public record Typing(Long memberId, String userId, String name, boolean typing) {
+    }
+
+    public record ReadCursor(Long memberId, String userId, Long messageId) {
+    }
+}
@@ -0,0 +1,20 @@
+package setting.SettingServer.dto.chat;
+
+import setting.SettingServer.entity.chat.MessageType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 브로드캐스트 후 DB 저장을 기다리는 채팅 메시지 (write-behind 버퍼 항목)
+ * @param id 전송 시점에 미리 할당된 메시지 ID
+ * @param chatRoomId
+ * @param senderId 발신자 회원 ID (chat_message.sender_id)
+ * @param senderUserId 발신자 회원의 userId (클라이언트에 보이는 발신자 ID)
+ * @param senderName
+ * @param content
+ * @param messageType
+ * @param sentAt
+ */
+public record PendingChatMessage(Long id, Long chatRoomId, Long senderId, String senderUserId, String senderName,
+                                 String content, MessageType messageType, LocalDateTime sentAt) {
+}
@@ -0,0 +1,12 @@
+package setting.SettingServer.dto.chat;
+
+import java.util.List;
+
+/**
+ * 채팅방 접속 상태 변경분 (flush 주기 동안 모은 변경을 한 번에 전달)
+ * @param roomCode
+ * @param online 접속한 회원 ID
+ * @param offline 접속이 끊긴 회원 ID
+ */
+public record PresenceDiff(String roomCode, List<Long> online, List<Long> offline) {
+}
@@ -0,0 +1,11 @@
+package setting.SettingServer.dto.chat;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 실시간 읽음 위치 전송 요청 (STOMP)
+ * 다른 멤버에게 바로 전달하고, 읽음 위치는 ChatReadReceiptBuffer 에 모아 주기적으로 저장한다
+ * @param messageId 마지막으로 읽은 메시지 ID
+ */
+public record ReadCursorRequest(@NotNull(message = "메시지 ID는 필수 입니다") Long messageId) {
+}
@@ -0,0 +1,11 @@
+package setting.SettingServer.dto.chat;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * STOMP 채팅 메시지 전송 요청
+ * @param content
+ */
+public record SendChatMessageRequest(@NotBlank @Size(max = 2000) String content) {
+}
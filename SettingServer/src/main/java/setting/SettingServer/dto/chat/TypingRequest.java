@@ -0,0 +1,8 @@
+package setting.SettingServer.dto.chat;
+
+/**
+ * 입력 중 상태 전송 요청 (STOMP, 저장하지 않음)
+ * @param typing 입력 중이면 true, 입력을 멈추면 false
+ */
+public record TypingRequest(boolean typing) {
+}
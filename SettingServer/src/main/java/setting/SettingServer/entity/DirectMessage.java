@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import setting.SettingServer.common.id.SnowflakeId;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -18,10 +19,12 @@ import java.util.List;
 @NoArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class) // JPA support
+@Table(name = "direct_message", indexes = @Index(name = "idx_direct_message_conversation",
+        columnList = "participant_low_id, participant_high_id, id"))
 public class DirectMessage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,6 +35,13 @@ public class DirectMessage {
     @JoinColumn(name = "receiver_id", nullable = false)
     private Member receiver;
 
+    // 대화 키: (min(발신자, 수신자), max(발신자, 수신자)) 로 양방향 대화를 하나의 인덱스 범위로 조회
+    @Column(name = "participant_low_id")
+    private Long participantLowId;
+
+    @Column(name = "participant_high_id")
+    private Long participantHighId;
+
     private String content;
 
     private boolean isRead;
@@ -89,6 +99,8 @@ public class DirectMessage {
     @PrePersist
     public void prePersist() {
         this.sentAt = LocalDateTime.now();
+        this.participantLowId = Math.min(sender.getId(), receiver.getId());
+        this.participantHighId = Math.max(sender.getId(), receiver.getId());
     }
 
 //    public LocalDateTime getSentAt() {
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import setting.SettingServer.common.BaseTime;
 
 import java.util.HashSet;
@@ -15,6 +17,7 @@ import java.util.Set;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@DynamicUpdate
 public class Reference extends BaseTime {
 
     @Id
@@ -27,6 +30,8 @@ public class Reference extends BaseTime {
 
     private String videoUrl;
 
+    // ReferenceViewCountBuffer 가 배치로만 증가시킨다 (엔티티 수정 시 덮어쓰지 않음)
+    @Column(updatable = false)
     private int viewCount;
 
     private Boolean isDeleted;
@@ -39,8 +44,34 @@ public class Reference extends BaseTime {
     private Set<ReferenceTag> referenceTags = new HashSet<>();
     private double averageRating;
 
+    // ================= 별점 집계 (RatingService 에서 원자적 UPDATE 로 갱신) =================
+
     private int ratingCount;
 
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long ratingSum;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int oneStarCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int twoStarCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int threeStarCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int fourStarCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int fiveStarCount;
+
     public void addTag(Tag tag) {
         ReferenceTag referenceTag = ReferenceTag.builder()
                 .reference(this)
@@ -59,20 +90,29 @@ public class Reference extends BaseTime {
         this.videoUrl = videoUrl;
     }
 
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
     // SoftDelete
     public void delete() {
         this.isDeleted = true;
     }
 
-    public void updateAverageRating(double averageRating) {
-        this.averageRating = averageRating;
+    /**
+     * 별점 평균 (합계/개수로 계산)
+     */
+    public double calculateAverageRating() {
+        return ratingCount == 0 ? 0.0 : (double) ratingSum / ratingCount;
     }
 
-    public void updateRatingCount(int ratingCount) {
-        this.ratingCount = ratingCount;
+    /**
+     * 점수별 별점 개수 (score 1-5)
+     */
+    public int getStarCount(int score) {
+        return switch (score) {
+            case 1 -> oneStarCount;
+            case 2 -> twoStarCount;
+            case 3 -> threeStarCount;
+            case 4 -> fourStarCount;
+            case 5 -> fiveStarCount;
+            default -> throw new IllegalArgumentException("별점은 1-5 사이의 값이어야 합니다");
+        };
     }
 }
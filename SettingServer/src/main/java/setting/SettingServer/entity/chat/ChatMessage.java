@@ -6,6 +6,7 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import setting.SettingServer.common.BaseTime;
 import setting.SettingServer.entity.Member;
+import setting.SettingServer.common.id.SnowflakeId;
 
 import java.time.LocalDateTime;
 
@@ -14,10 +15,13 @@ import java.time.LocalDateTime;
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chat_message", indexes = @Index(name = "idx_chat_message_room_id", columnList = "chat_room_id, id"))
 public class ChatMessage extends BaseTime {
 
+    public static final int PREVIEW_LENGTH = 100;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -39,4 +43,15 @@ public class ChatMessage extends BaseTime {
     @Column(name = "sent_at", nullable = false, updatable = false)
     private LocalDateTime sentAt;
 
+    // 채팅방 목록 미리보기용 내용
+    public String getPreview() {
+        return toPreview(content);
+    }
+
+    public static String toPreview(String content) {
+        if (content == null || content.length() <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, PREVIEW_LENGTH);
+    }
 }
@@ -2,16 +2,20 @@ package setting.SettingServer.entity.chat;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.util.StringUtils;
 import setting.SettingServer.common.BaseTime;
 import setting.SettingServer.entity.Member;
 
 import javax.swing.text.html.Option;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Entity
 @Getter
+@Table(indexes = @Index(name = "idx_chat_room_last_message_at", columnList = "last_message_at"))
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatRoom extends BaseTime {
 
@@ -35,6 +39,23 @@ public class ChatRoom extends BaseTime {
     @Column(nullable = false)
     private boolean active = true;
 
+    // 마지막 메시지 (메시지 저장 시 함께 갱신, 목록 정렬/미리보기용)
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    @Column(name = "last_message_preview", length = ChatMessage.PREVIEW_LENGTH)
+    private String lastMessagePreview;
+
+    // 발신자 회원의 userId (ChatMessageDto.senderId 와 같은 값)
+    @Column(name = "last_message_sender_user_id")
+    private String lastMessageSenderUserId;
+
+    @Column(name = "last_message_sender_name")
+    private String lastMessageSenderName;
+
     @OneToMany(mappedBy = "chatRoom", cascade = CascadeType.PERSIST, orphanRemoval = true)
     private List<ChatRoomMember> members = new ArrayList<>();
 
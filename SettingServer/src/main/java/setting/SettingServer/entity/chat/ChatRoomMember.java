@@ -5,9 +5,12 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.cglib.core.Local;
 import setting.SettingServer.common.BaseTime;
 import setting.SettingServer.entity.Member;
+import setting.SettingServer.common.id.SnowflakeId;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -15,11 +18,12 @@ import java.util.Objects;
 @Entity
 @Getter
 @Table(name = "chat_room_member")
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatRoomMember extends BaseTime {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -36,6 +40,11 @@ public class ChatRoomMember extends BaseTime {
 
     private Long lastReadMessageId;
 
+    // 안 읽은 메시지 수 (메시지 저장 시 증가, 읽음 처리 시 갱신)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long unreadCount = 0;
+
     @Column(nullable = false)
     private boolean notificationsEnabled = true;
 
@@ -68,6 +77,14 @@ public class ChatRoomMember extends BaseTime {
         this.lastReadMessageId = messageId;
     }
 
+    public void updateUnreadCount(long unreadCount) {
+        this.unreadCount = Math.max(unreadCount, 0);
+    }
+
+    public void resetUnreadCount() {
+        this.unreadCount = 0;
+    }
+
     // 알림 설정 토글
     public void toggleNotifications() {
         this.notificationsEnabled = !this.notificationsEnabled;
@@ -1,7 +1,10 @@
 package setting.SettingServer.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -12,9 +15,12 @@ import java.util.List;
 
 public interface DirectMessageRepository extends JpaRepository<DirectMessage, Long> {
 
-    Page<DirectMessage> findByReceiver_IdOrderBySentAtDesc(Long receiverId, Pageable pageable);
+    // Slice 반환으로 COUNT 쿼리 없이 다음 페이지 여부만 확인
+    @EntityGraph(attributePaths = {"sender", "receiver"})
+    Slice<DirectMessage> findByReceiver_IdOrderBySentAtDesc(Long receiverId, Pageable pageable);
 
-    Page<DirectMessage> findBySender_IdOrderBySentAtDesc(Long senderId, Pageable pageable);
+    @EntityGraph(attributePaths = {"sender", "receiver"})
+    Slice<DirectMessage> findBySender_IdOrderBySentAtDesc(Long senderId, Pageable pageable);
 
     List<DirectMessage> findByReceiver_Id(Long memberId);
 
@@ -26,11 +32,29 @@ public interface DirectMessageRepository extends JpaRepository<DirectMessage, Lo
     Page<DirectMessage> findBySender_IdAndIsDeletedBySenderFalseOrderBySentAtDesc(Long senderId, Pageable pageable);
 
 
+    // 대화 키(low, high) 로 조회하여 (participant_low_id, participant_high_id, id) 인덱스를 그대로 사용
+    // 페이지 조회는 기존과 같이 오래된 메시지부터 반환한다 (id 는 전송 순서를 따르므로 sentAt 정렬과 같다)
+    @EntityGraph(attributePaths = {"sender", "receiver"})
     @Query("SELECT dm FROM DirectMessage dm " +
-            "WHERE (dm.sender.id = :userId1 AND dm.receiver.id = :userId2) " +
-            "OR (dm.sender.id = :userId2 AND dm.receiver.id = :userId1) " +
-            "ORDER BY dm.sentAt")
-    Page<DirectMessage> findConversation(@Param("userId1") Long userId1, @Param("userId2") Long userId2, Pageable pageable);
+            "WHERE dm.participantLowId = :lowId AND dm.participantHighId = :highId " +
+            "ORDER BY dm.id ASC")
+    Slice<DirectMessage> findConversation(@Param("lowId") Long lowId, @Param("highId") Long highId, Pageable pageable);
+
+    // 커서(keyset) 기반 대화 조회
+    @EntityGraph(attributePaths = {"sender", "receiver"})
+    List<DirectMessage> findByParticipantLowIdAndParticipantHighIdOrderByIdDesc(Long lowId, Long highId, Limit limit);
+
+    @EntityGraph(attributePaths = {"sender", "receiver"})
+    List<DirectMessage> findByParticipantLowIdAndParticipantHighIdAndIdLessThanOrderByIdDesc(Long lowId, Long highId, Long messageId, Limit limit);
+
+    // 대화 키가 없는 기존 메시지 보정
+    @Modifying
+    @Query(value = "UPDATE direct_message " +
+            "SET participant_low_id = LEAST(sender_id, receiver_id), " +
+            "participant_high_id = GREATEST(sender_id, receiver_id) " +
+            "WHERE participant_low_id IS NULL OR participant_high_id IS NULL",
+            nativeQuery = true)
+    int backfillConversationKeys();
 
     // 안 읽은 메시지 수 조회
     long countByReceiver_IdAndIsReadFalseAndIsDeletedByReceiverFalse(Long receiverId);
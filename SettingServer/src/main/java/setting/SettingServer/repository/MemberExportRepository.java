@@ -0,0 +1,41 @@
+package setting.SettingServer.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import setting.SettingServer.dto.MemberProfileResponse;
+import setting.SettingServer.entity.ProviderType;
+
+import java.util.function.Consumer;
+
+/**
+ * 회원 전체 내보내기
+ * JDBC 커서(fetch size 단위)로 한 행씩 읽어 바로 넘기므로 회원 수와 관계없이 메모리 사용량이 일정하다.
+ * PostgreSQL 은 트랜잭션 안(auto-commit 해제)에서만 커서로 읽으므로 호출하는 쪽에서 트랜잭션을 연다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberExportRepository {
+
+    private static final String SELECT_MEMBERS_SQL =
+            "SELECT id, email, name, image_url, type FROM member ORDER BY id";
+    private static final int FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void streamAll(Consumer<MemberProfileResponse> consumer) {
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(SELECT_MEMBERS_SQL);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            String type = rs.getString("type");
+            consumer.accept(MemberProfileResponse.of(
+                    rs.getLong("id"),
+                    rs.getString("email"),
+                    rs.getString("name"),
+                    rs.getString("image_url"),
+                    type != null ? ProviderType.valueOf(type) : null));
+        });
+    }
+}
@@ -1,19 +1,30 @@
 package setting.SettingServer.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import setting.SettingServer.entity.Member;
 import setting.SettingServer.entity.ProviderType;
+import setting.SettingServer.entity.UserRole;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByEmail(String email);
 
-    Optional<Member> findByRefreshToken(String refreshToken);
-
     Optional<Member> findByName(String name);
 
+    // 커서(keyset) 기반 회원 목록
+    List<Member> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
     Optional<Member> findByTypeAndProvider(ProviderType providerType, String providerId);
-}
 
+    // 권한 없이 생성된 기존 회원 보정
+    @Modifying
+    @Query("UPDATE Member m SET m.role = :role WHERE m.role IS NULL")
+    int backfillMissingRoles(@Param("role") UserRole role);
+}
@@ -2,7 +2,9 @@ package setting.SettingServer.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import setting.SettingServer.entity.Reference;
@@ -10,7 +12,9 @@ import setting.SettingServer.entity.Reference;
 import java.nio.channels.FileChannel;
 import java.sql.Ref;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ReferenceRepository extends JpaRepository<Reference, Long> {
 
@@ -31,6 +35,70 @@ public interface ReferenceRepository extends JpaRepository<Reference, Long> {
             "ORDER BY (r.averageRating * 10 + r.viewCount / 100) DESC")
     List<Reference> findRecentPopularReferences(@Param("since")LocalDateTime since, Pageable pageable);
 
+    // 순위(ZSET)에서 꺼낸 ID 로 목록 조회
+    @EntityGraph(attributePaths = "author")
+    List<Reference> findWithAuthorByIdIn(Collection<Long> ids);
+
+    @Query("SELECT r.averageRating FROM Reference r WHERE r.id = :referenceId")
+    Optional<Double> findAverageRatingById(@Param("referenceId") Long referenceId);
+
+    // 순위 초기화
+    @Query("SELECT r.id AS id, r.averageRating AS averageRating, r.viewCount AS viewCount " +
+            "FROM Reference r WHERE r.isDeleted IS NULL OR r.isDeleted = false")
+    List<ReferenceScore> findAllScores();
+
+    @Query("SELECT r.id AS id, r.averageRating AS averageRating, r.viewCount AS viewCount " +
+            "FROM Reference r WHERE r.createdAt >= :since AND (r.isDeleted IS NULL OR r.isDeleted = false)")
+    List<ReferenceScore> findRecentScores(@Param("since") LocalDateTime since);
+
+    /**
+     * 별점 집계 원자적 갱신 (합계, 개수, 점수별 개수, 평균)
+     * SET 절의 우변은 모두 갱신 전 값을 기준으로 계산되므로 동시 갱신도 행 잠금만으로 누락 없이 반영된다
+     * 갱신 전에 조회해 둔 게시글이 영속성 컨텍스트에 남지 않도록 실행 후 비운다
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reference r SET " +
+            "r.ratingSum = r.ratingSum + :sumDelta, " +
+            "r.ratingCount = r.ratingCount + :countDelta, " +
+            "r.averageRating = CASE WHEN r.ratingCount + :countDelta = 0 THEN 0.0 " +
+            "ELSE (r.ratingSum + :sumDelta) * 1.0 / (r.ratingCount + :countDelta) END, " +
+            "r.oneStarCount = r.oneStarCount + :oneDelta, " +
+            "r.twoStarCount = r.twoStarCount + :twoDelta, " +
+            "r.threeStarCount = r.threeStarCount + :threeDelta, " +
+            "r.fourStarCount = r.fourStarCount + :fourDelta, " +
+            "r.fiveStarCount = r.fiveStarCount + :fiveDelta " +
+            "WHERE r.id = :referenceId")
+    int applyRatingChange(@Param("referenceId") Long referenceId,
+                          @Param("sumDelta") long sumDelta,
+                          @Param("countDelta") int countDelta,
+                          @Param("oneDelta") int oneDelta,
+                          @Param("twoDelta") int twoDelta,
+                          @Param("threeDelta") int threeDelta,
+                          @Param("fourDelta") int fourDelta,
+                          @Param("fiveDelta") int fiveDelta);
+
+    // 집계 컬럼 추가 전 별점이 등록된 게시글 보정
+    @Modifying
+    @Query(value = "UPDATE reference r SET " +
+            "rating_sum = s.score_sum, " +
+            "rating_count = s.score_count, " +
+            "average_rating = s.score_sum * 1.0 / s.score_count, " +
+            "one_star_count = s.one_count, " +
+            "two_star_count = s.two_count, " +
+            "three_star_count = s.three_count, " +
+            "four_star_count = s.four_count, " +
+            "five_star_count = s.five_count " +
+            "FROM (SELECT reference_id, SUM(score) AS score_sum, COUNT(*) AS score_count, " +
+            "COUNT(*) FILTER (WHERE score = 1) AS one_count, " +
+            "COUNT(*) FILTER (WHERE score = 2) AS two_count, " +
+            "COUNT(*) FILTER (WHERE score = 3) AS three_count, " +
+            "COUNT(*) FILTER (WHERE score = 4) AS four_count, " +
+            "COUNT(*) FILTER (WHERE score = 5) AS five_count " +
+            "FROM ratings GROUP BY reference_id) s " +
+            "WHERE r.id = s.reference_id AND r.rating_sum = 0",
+            nativeQuery = true)
+    int backfillRatingStatistics();
+
     @Query("SELECT r FROM Reference r JOIN r.referenceTags rt " +
             "WHERE rt.tag.id = :tagId AND r.isDeleted = false")
     Page<Reference> findByTagId(@Param("tagId") Long tagId, Pageable pageable);
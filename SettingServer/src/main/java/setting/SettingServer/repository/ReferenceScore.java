@@ -0,0 +1,10 @@
+package setting.SettingServer.repository;
+
+/**
+ * 순위 초기화용 게시글 점수 projection
+ */
+public interface ReferenceScore {
+    Long getId();
+    double getAverageRating();
+    int getViewCount();
+}
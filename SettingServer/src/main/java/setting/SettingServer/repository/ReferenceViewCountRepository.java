@@ -0,0 +1,32 @@
+package setting.SettingServer.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모아 둔 조회수 증가분을 JDBC 배치로 반영
+ * 엔티티를 거치지 않으므로 버전(@Version)을 올리지 않고, 게시글 수정과 충돌하지 않는다
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReferenceViewCountRepository {
+
+    private static final String INCREMENT_VIEW_COUNT_SQL =
+            "UPDATE reference SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param increments 게시글 ID 순으로 정렬된 증가분 (잠금 순서를 고정해 교착 상태 방지)
+     */
+    public void incrementAll(List<Map.Entry<Long, Long>> increments) {
+        jdbcTemplate.batchUpdate(INCREMENT_VIEW_COUNT_SQL, increments, increments.size(), (ps, increment) -> {
+            ps.setLong(1, increment.getValue());
+            ps.setLong(2, increment.getKey());
+        });
+    }
+}
@@ -1,6 +0,0 @@
-package setting.SettingServer.repository;
-
-public interface ScoreCount {
-    int getScore();
-    long getCount();
-}
@@ -0,0 +1,102 @@
+package setting.SettingServer.repository.chat;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import setting.SettingServer.dto.chat.PendingChatMessage;
+import setting.SettingServer.entity.chat.ChatMessage;
+import setting.SettingServer.entity.chat.ChatRoomMemberStatus;
+import setting.SettingServer.entity.chat.MessageType;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * write-behind 버퍼의 메시지를 JDBC 배치로 저장
+ * 호출하는 쪽의 트랜잭션 안에서 실행된다
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBatchRepository {
+
+    // ID 가 미리 할당되어 있으므로 재시도 시 중복 저장되지 않도록 충돌은 무시
+    private static final String INSERT_MESSAGE_SQL =
+            "INSERT INTO chat_message (id, chat_room_id, sender_id, content, message_type, sent_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (id) DO NOTHING";
+
+    private static final String INCREMENT_UNREAD_SQL =
+            "UPDATE chat_room_member SET unread_count = unread_count + ? " +
+            "WHERE chat_room_id = ? AND member_id <> ? AND status = ?";
+
+    private static final String UPDATE_LAST_MESSAGE_SQL =
+            "UPDATE chat_room SET last_message_id = ?, last_message_at = ?, last_message_preview = ?, " +
+            "last_message_sender_user_id = ?, last_message_sender_name = ? " +
+            "WHERE id = ? AND (last_message_id IS NULL OR last_message_id < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(List<PendingChatMessage> messages) {
+        insertMessages(messages);
+        incrementUnreadCounts(messages);
+        updateLastMessages(messages);
+    }
+
+    private void insertMessages(List<PendingChatMessage> messages) {
+        jdbcTemplate.batchUpdate(INSERT_MESSAGE_SQL, messages, messages.size(), (ps, message) -> {
+            Timestamp sentAt = Timestamp.valueOf(message.sentAt());
+            ps.setLong(1, message.id());
+            ps.setLong(2, message.chatRoomId());
+            ps.setObject(3, message.senderId());
+            ps.setString(4, message.content());
+            ps.setString(5, message.messageType().name());
+            ps.setTimestamp(6, sentAt);
+            ps.setTimestamp(7, sentAt);
+            ps.setTimestamp(8, sentAt);
+        });
+    }
+
+    // (채팅방, 발신자) 별로 묶어 한 번에 증가 (잠금 순서를 맞추기 위해 채팅방 ID 순으로 실행)
+    private void incrementUnreadCounts(List<PendingChatMessage> messages) {
+        Map<List<Long>, Long> counts = messages.stream()
+                .filter(message -> message.messageType() != MessageType.SERVER && message.senderId() != null)
+                .collect(Collectors.groupingBy(message -> List.of(message.chatRoomId(), message.senderId()),
+                        LinkedHashMap::new, Collectors.counting()));
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(counts.size());
+        counts.entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getKey().get(0)))
+                .forEach(entry -> args.add(new Object[]{
+                        entry.getValue(), entry.getKey().get(0), entry.getKey().get(1), ChatRoomMemberStatus.ACTIVE.name()}));
+        jdbcTemplate.batchUpdate(INCREMENT_UNREAD_SQL, args);
+    }
+
+    // 채팅방별 가장 큰 ID 의 메시지만 반영
+    private void updateLastMessages(List<PendingChatMessage> messages) {
+        Map<Long, PendingChatMessage> latestByRoom = messages.stream()
+                .collect(Collectors.toMap(PendingChatMessage::chatRoomId, Function.identity(),
+                        (a, b) -> a.id() > b.id() ? a : b));
+
+        List<PendingChatMessage> latest = latestByRoom.values().stream()
+                .sorted(Comparator.comparing(PendingChatMessage::chatRoomId))
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPDATE_LAST_MESSAGE_SQL, latest, latest.size(), (ps, message) -> {
+            ps.setLong(1, message.id());
+            ps.setTimestamp(2, Timestamp.valueOf(message.sentAt()));
+            ps.setString(3, ChatMessage.toPreview(message.content()));
+            ps.setString(4, message.senderUserId());
+            ps.setString(5, message.senderName());
+            ps.setLong(6, message.chatRoomId());
+            ps.setLong(7, message.id());
+        });
+    }
+}
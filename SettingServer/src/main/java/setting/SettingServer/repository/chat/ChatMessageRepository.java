@@ -1,12 +1,16 @@
 package setting.SettingServer.repository.chat;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import setting.SettingServer.entity.Member;
 import setting.SettingServer.entity.chat.ChatMessage;
 import setting.SettingServer.entity.chat.ChatRoom;
 import setting.SettingServer.entity.chat.MessageType;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
@@ -15,10 +19,19 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
 
     Optional<ChatMessage> findTopByChatRoomOrderBySentAtDesc(ChatRoom chatRoom);
 
+    // 커서(keyset) 기반 조회: (chat_room_id, id) 인덱스를 타고 COUNT 쿼리 없이 조회
+    @EntityGraph(attributePaths = "sender")
+    List<ChatMessage> findByChatRoomOrderByIdDesc(ChatRoom chatRoom, Limit limit);
+
+    @EntityGraph(attributePaths = "sender")
+    List<ChatMessage> findByChatRoomAndIdLessThanOrderByIdDesc(ChatRoom chatRoom, Long messageId, Limit limit);
+
     long countByChatRoomAndMessageTypeNot(ChatRoom chatRoom, MessageType messageType);
 
     long countByChatRoomAndIdGreaterThanAndMessageTypeNot(ChatRoom chatRoom, Long messageId, MessageType messageType);
 
+    long countByChatRoomAndIdGreaterThanAndMessageTypeNotAndSenderNot(ChatRoom chatRoom, Long messageId, MessageType messageType, Member sender);
+
     long countByChatRoomAndIdLessThanEqualAndMessageTypeNot(ChatRoom chatRoom, Long messageId, MessageType messageType);
 
     long countByChatRoomAndIdBetweenAndMessageTypeNot(ChatRoom chatRoom, Long startId, Long endId, MessageType messageType);
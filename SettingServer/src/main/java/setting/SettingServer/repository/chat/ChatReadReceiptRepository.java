@@ -0,0 +1,47 @@
+package setting.SettingServer.repository.chat;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import setting.SettingServer.entity.chat.ChatRoomMemberStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽음 위치를 JDBC 배치로 반영
+ * 저장된 값보다 큰 메시지 ID 일 때만 갱신하므로 순서가 뒤바뀌거나 중복 반영되어도 읽음 위치가 뒤로 가지 않는다
+ * 읽음 위치는 채팅방의 마지막 메시지 ID 를 넘지 않도록 잘라서 저장한다 (없는 메시지 ID 로 앞으로 올 메시지까지 읽음 처리되지 않도록)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatReadReceiptRepository {
+
+    // 안 읽은 메시지 수는 새 읽음 위치 이후의 (본인/시스템 메시지 제외) 메시지 수로 함께 갱신
+    private static final String UPDATE_LAST_READ_SQL =
+            "UPDATE chat_room_member crm SET " +
+            "last_read_message_id = receipt.message_id, " +
+            "unread_count = (SELECT COUNT(cm.id) FROM chat_message cm " +
+            "                WHERE cm.chat_room_id = crm.chat_room_id AND cm.id > receipt.message_id " +
+            "                AND cm.message_type <> 'SERVER' " +
+            "                AND (cm.sender_id IS NULL OR cm.sender_id <> crm.member_id)) " +
+            "FROM (SELECT cr.id AS chat_room_id, LEAST(?, COALESCE(cr.last_message_id, 0)) AS message_id " +
+            "      FROM chat_room cr WHERE cr.id = ?) receipt " +
+            "WHERE crm.chat_room_id = receipt.chat_room_id AND crm.member_id = ? AND crm.status = ? " +
+            "AND (crm.last_read_message_id IS NULL OR crm.last_read_message_id < receipt.message_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param receipts 채팅방 ID 순으로 정렬된 읽음 위치 (잠금 순서를 맞추기 위해)
+     */
+    public void updateLastReadMessageIds(List<ReadReceipt> receipts) {
+        List<Object[]> args = new ArrayList<>(receipts.size());
+        receipts.forEach(receipt -> args.add(new Object[]{
+                receipt.messageId(), receipt.chatRoomId(), receipt.memberId(), ChatRoomMemberStatus.ACTIVE.name()}));
+        jdbcTemplate.batchUpdate(UPDATE_LAST_READ_SQL, args);
+    }
+
+    public record ReadReceipt(Long chatRoomId, Long memberId, Long messageId) {
+    }
+}
@@ -3,7 +3,9 @@ package setting.SettingServer.repository.chat;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import setting.SettingServer.entity.Member;
 import setting.SettingServer.entity.chat.ChatRoom;
 import setting.SettingServer.entity.chat.ChatRoomMember;
@@ -21,10 +23,70 @@ public interface ChatRoomMemberRepository extends JpaRepository<ChatRoomMember,
 
     List<ChatRoomMember> findByChatRoomAndStatusOrderByCreatedAtAsc(ChatRoom chatRoom, ChatRoomMemberStatus status);
 
-    @Query("SELECT crm FROM ChatRoomMember crm " +
-            "WHERE crm.member = :member AND crm.status = :status " +
-            "ORDER BY (SELECT MAX(cm.createdAt) FROM ChatMessage cm WHERE cm.chatRoom = crm.chatRoom) DESC ")
-    Page<ChatRoomMember> findByMemberAndStatusOrderByLastMessageTimestampDesc(Member member, ChatRoomMemberStatus status, Pageable pageable);
+    /**
+     * 채팅방 목록 한 페이지를 단일 쿼리로 조회 (멤버 수, 1:1 상대 이름, 마지막 메시지 포함)
+     */
+    @Query(value = "SELECT cr.roomCode AS roomCode, cr.name AS roomName, cr.customName AS customName, " +
+            "crm.nickname AS nickname, cr.roomType AS roomType, crm.unreadCount AS unreadCount, " +
+            "(SELECT COUNT(am) FROM ChatRoomMember am WHERE am.chatRoom = cr AND am.status = :status) AS memberCount, " +
+            "(SELECT MIN(om.member.name) FROM ChatRoomMember om WHERE om.chatRoom = cr AND om.member.id <> :memberId) AS otherMemberName, " +
+            "cr.lastMessagePreview AS lastMessageContent, cr.lastMessageAt AS lastMessageSentAt, " +
+            "cr.lastMessageSenderUserId AS lastMessageSenderUserId, cr.lastMessageSenderName AS lastMessageSenderName " +
+            "FROM ChatRoomMember crm " +
+            "JOIN crm.chatRoom cr " +
+            "WHERE crm.member.id = :memberId AND crm.status = :status " +
+            "ORDER BY cr.lastMessageAt DESC NULLS LAST, cr.id DESC",
+            countQuery = "SELECT COUNT(crm) FROM ChatRoomMember crm " +
+                    "WHERE crm.member.id = :memberId AND crm.status = :status")
+    Page<ChatRoomSummary> findChatRoomSummaries(@Param("memberId") Long memberId,
+                                                @Param("status") ChatRoomMemberStatus status,
+                                                Pageable pageable);
+
+    // STOMP 메시지 전송 시 엔티티 로딩 없이 멤버 여부와 발신자 정보만 조회
+    @Query("SELECT cr.id AS chatRoomId, m.id AS memberId, m.userId AS memberUserId, m.name AS memberName " +
+            "FROM ChatRoomMember crm " +
+            "JOIN crm.chatRoom cr " +
+            "JOIN crm.member m " +
+            "WHERE cr.roomCode = :roomCode AND m.id = :memberId AND crm.status = :status AND cr.active = true")
+    Optional<ChatRoomMembership> findMembership(@Param("roomCode") String roomCode,
+                                                @Param("memberId") Long memberId,
+                                                @Param("status") ChatRoomMemberStatus status);
 
     long countByChatRoomAndStatus(ChatRoom chatRoom, ChatRoomMemberStatus status);
+
+    @Query("SELECT crm.chatRoom.roomCode AS roomCode, crm.unreadCount AS unreadCount " +
+            "FROM ChatRoomMember crm " +
+            "WHERE crm.member.id = :memberId AND crm.status = :status")
+    List<RoomUnreadCount> findUnreadCountsByMemberId(@Param("memberId") Long memberId, @Param("status") ChatRoomMemberStatus status);
+
+    // 새 메시지 저장 시 발신자를 제외한 활성 멤버의 안 읽은 메시지 수 증가
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoomMember crm SET crm.unreadCount = crm.unreadCount + 1 " +
+            "WHERE crm.chatRoom = :chatRoom AND crm.member <> :sender AND crm.status = :status")
+    int incrementUnreadCount(@Param("chatRoom") ChatRoom chatRoom, @Param("sender") Member sender,
+                             @Param("status") ChatRoomMemberStatus status);
+
+    // 읽음 위치 보정: 채팅방의 마지막 메시지 ID 를 넘은 읽음 위치를 마지막 메시지로 되돌린다
+    @Modifying
+    @Query(value = "UPDATE chat_room_member crm SET last_read_message_id = cr.last_message_id " +
+            "FROM chat_room cr " +
+            "WHERE cr.id = crm.chat_room_id AND cr.last_message_id IS NOT NULL " +
+            "AND crm.last_read_message_id > cr.last_message_id",
+            nativeQuery = true)
+    int clampLastReadMessageIds();
+
+    // 카운터 보정: lastReadMessageId 이후의 (본인/시스템 메시지 제외) 메시지 수로 재계산
+    @Modifying
+    @Query(value = "UPDATE chat_room_member crm SET unread_count = sub.cnt " +
+            "FROM (SELECT m.id AS crm_id, COUNT(cm.id) AS cnt " +
+            "      FROM chat_room_member m " +
+            "      LEFT JOIN chat_message cm ON cm.chat_room_id = m.chat_room_id " +
+            "           AND cm.id > COALESCE(m.last_read_message_id, 0) " +
+            "           AND cm.message_type <> 'SERVER' " +
+            "           AND (cm.sender_id IS NULL OR cm.sender_id <> m.member_id) " +
+            "      WHERE m.status = 'ACTIVE' " +
+            "      GROUP BY m.id) sub " +
+            "WHERE crm.id = sub.crm_id AND crm.unread_count <> sub.cnt",
+            nativeQuery = true)
+    int reconcileUnreadCounts();
 }
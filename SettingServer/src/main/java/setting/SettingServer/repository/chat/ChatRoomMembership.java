@@ -0,0 +1,15 @@
+package setting.SettingServer.repository.chat;
+
+/**
+ * 메시지 전송 시 멤버 여부 확인용 프로젝션
+ */
+public interface ChatRoomMembership {
+
+    Long getChatRoomId();
+
+    Long getMemberId();
+
+    String getMemberUserId();
+
+    String getMemberName();
+}
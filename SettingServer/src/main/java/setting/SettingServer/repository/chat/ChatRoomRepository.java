@@ -3,20 +3,50 @@ package setting.SettingServer.repository.chat;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import setting.SettingServer.entity.chat.ChatMessage;
 import setting.SettingServer.entity.chat.ChatRoom;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, String> {
 
     Optional<ChatRoom> findByRoomCode(String roomCode);
 
+    @Query("SELECT cr.lastMessageId FROM ChatRoom cr WHERE cr.id = :chatRoomId")
+    Optional<Long> findLastMessageIdById(@Param("chatRoomId") Long chatRoomId);
+
     @Query("SELECT cr FROM ChatRoom cr JOIN cr.members m1 JOIN cr.members m2 " +
             "WHERE cr.roomType = 'DIRECT' " +
             "AND m1.member.id = :userId1 AND m2.member.id = :userId2 " +
             "AND m1.status = 'ACTIVE' AND m2.status = 'ACTIVE'")
     Optional<ChatRoom> findDirectChatRoom(@Param("userId1") Long userId1, @Param("userId2") Long userId2);
 
+    // 마지막 메시지 갱신 (더 최신 메시지일 때만)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom cr SET cr.lastMessageId = :messageId, cr.lastMessageAt = :sentAt, " +
+            "cr.lastMessagePreview = :preview, cr.lastMessageSenderUserId = :senderUserId, cr.lastMessageSenderName = :senderName " +
+            "WHERE cr.id = :chatRoomId AND (cr.lastMessageId IS NULL OR cr.lastMessageId < :messageId)")
+    int updateLastMessage(@Param("chatRoomId") Long chatRoomId,
+                          @Param("messageId") Long messageId,
+                          @Param("sentAt") LocalDateTime sentAt,
+                          @Param("preview") String preview,
+                          @Param("senderUserId") String senderUserId,
+                          @Param("senderName") String senderName);
+
+    // 마지막 메시지 정보가 비어 있는 기존 채팅방 채우기 (발신자 userId 가 빠진 채팅방 포함)
+    @Modifying
+    @Query(value = "UPDATE chat_room cr SET last_message_id = cm.id, last_message_at = cm.sent_at, " +
+            "last_message_preview = LEFT(cm.content, " + ChatMessage.PREVIEW_LENGTH + "), " +
+            "last_message_sender_user_id = m.user_id, last_message_sender_name = m.name " +
+            "FROM chat_message cm LEFT JOIN member m ON m.id = cm.sender_id " +
+            "WHERE (cr.last_message_id IS NULL " +
+            "       OR (cr.last_message_sender_user_id IS NULL AND cr.last_message_sender_name IS NOT NULL)) " +
+            "AND cm.id = (SELECT MAX(latest.id) FROM chat_message latest WHERE latest.chat_room_id = cr.id)",
+            nativeQuery = true)
+    int backfillLastMessages();
+
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package setting.SettingServer.repository.chat;
+
+import org.springframework.util.StringUtils;
+import setting.SettingServer.entity.chat.ChatRoomType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 목록 한 줄에 필요한 값만 담은 조회 전용 프로젝션
+ */
+public interface ChatRoomSummary {
+    String getRoomCode();
+    String getRoomName();
+    String getCustomName();
+    String getNickname();
+    ChatRoomType getRoomType();
+    String getOtherMemberName();
+    long getMemberCount();
+    long getUnreadCount();
+    String getLastMessageContent();
+    LocalDateTime getLastMessageSentAt();
+    String getLastMessageSenderUserId();
+    String getLastMessageSenderName();
+
+    // ChatRoom.getDisplayNameForMember 와 동일한 우선순위 (닉네임 > 사용자 지정 이름 > 1:1 상대 이름 > 기본 이름)
+    default String getDisplayName() {
+        if (StringUtils.hasText(getNickname())) {
+            return getNickname();
+        }
+
+        if (StringUtils.hasText(getCustomName())) {
+            return getCustomName();
+        }
+
+        if (getRoomType() == ChatRoomType.DIRECT && StringUtils.hasText(getOtherMemberName())) {
+            return String.format("%s 님과의 대화", getOtherMemberName());
+        }
+        return getRoomName();
+    }
+}
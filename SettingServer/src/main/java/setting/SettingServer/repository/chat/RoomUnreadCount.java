@@ -0,0 +1,6 @@
+package setting.SettingServer.repository.chat;
+
+public interface RoomUnreadCount {
+    String getRoomCode();
+    long getUnreadCount();
+}
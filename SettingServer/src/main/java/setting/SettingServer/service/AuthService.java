@@ -1,5 +1,6 @@
 package setting.SettingServer.service;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -7,14 +8,15 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import setting.SettingServer.common.exception.DuplicateEmailException;
+import setting.SettingServer.common.exception.InvalidTokenException;
 import setting.SettingServer.common.exception.LoginFailureException;
 import setting.SettingServer.common.exception.UserNotFoundException;
 import setting.SettingServer.common.oauth.RequestOAuthInfoService;
 import setting.SettingServer.config.jwt.dto.TokenDto;
 import setting.SettingServer.config.jwt.service.JwtService;
+import setting.SettingServer.config.redis.MemberDirectoryCache;
 import setting.SettingServer.dto.LoginRequest;
 import setting.SettingServer.dto.SignUpRequest;
-import setting.SettingServer.entity.JwtTokenType;
 import setting.SettingServer.entity.Member;
 import setting.SettingServer.entity.ProviderType;
 import setting.SettingServer.entity.UserRole;
@@ -34,6 +36,7 @@ public class AuthService {
     private final PasswordEncoder encoder;
     private final MemberService memberService;
     private final RequestOAuthInfoService oAuthInfoService;
+    private final MemberDirectoryCache memberDirectoryCache;
 
     @Transactional
     public void signUp(SignUpRequest request) throws Exception {
@@ -50,6 +53,7 @@ public class AuthService {
 
         member.hashPassword(encoder);
         memberRepository.save(member);
+        memberDirectoryCache.evictAll();
     }
 
     private void validateRequiredFields(SignUpRequest dto) {
@@ -92,12 +96,20 @@ public class AuthService {
             }
         }
 
-        String accessToken = jwtService.createToken(member.getEmail(), JwtTokenType.ACCESS);
-        String refreshToken = jwtService.createToken(member.getEmail(), JwtTokenType.REFRESH);
+        return jwtService.issueTokens(member);
+    }
+
+    public TokenDto reissue(HttpServletRequest request) {
+        String refreshToken = jwtService.extractRefreshToken(request)
+                .orElseThrow(() -> new InvalidTokenException("Refresh token is missing"));
+        return jwtService.reissueTokens(refreshToken);
+    }
 
-        jwtService.updateStoredToken(member.getEmail(), accessToken, true);
-        jwtService.updateStoredRefreshToken(member.getEmail(), refreshToken);
-        return new TokenDto(accessToken, refreshToken);
+    public void logout(HttpServletRequest request) {
+        jwtService.extractAccessToken(request)
+                .ifPresent(jwtService::revokeAccessToken);
+        jwtService.extractRefreshToken(request)
+                .ifPresent(jwtService::revokeRefreshToken);
     }
 
     private Member findOrCreateMember(OAuthLoginParams params) {
@@ -109,15 +121,20 @@ public class AuthService {
         Member member = Member.builder()
                 .email(params.getEmail())
                 .name(params.getName())
+                .role(UserRole.USER)
                 .type(params.oAuthProvider())
                 .build();
-        return memberRepository.save(member);
+        Member saved = memberRepository.save(member);
+        memberDirectoryCache.evictAll();
+        return saved;
     }
 
     @Transactional
     public Member registerOrUpdateUser(String email, String name, String providerId, String provider) {
         ProviderType providerType = getUserTypeFromProvider(provider);
 
+        // 이름이 바뀌어도 목록에 보이는 값이 달라지므로 기존 회원이어도 목록 캐시를 비운다
+        memberDirectoryCache.evictAll();
         return memberRepository.findByEmail(email)
                 .map(user -> {
                     user.updateName(name);
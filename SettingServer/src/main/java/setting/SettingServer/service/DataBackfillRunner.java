@@ -0,0 +1,44 @@
+package setting.SettingServer.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import setting.SettingServer.entity.UserRole;
+import setting.SettingServer.repository.DirectMessageRepository;
+import setting.SettingServer.repository.MemberRepository;
+import setting.SettingServer.repository.ReferenceRepository;
+
+/**
+ * 기존 데이터 일회성 보정
+ * 모든 노드가 기동할 때마다 테이블 전체를 갱신하지 않도록, app.backfill.enabled=true 로 띄운 노드에서만 실행한다.
+ * (배포 후 한 노드에서 한 번 실행하면 되고, 여러 번 실행해도 결과는 같다)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.backfill.enabled", havingValue = "true")
+public class DataBackfillRunner {
+
+    private final MemberRepository memberRepository;
+    private final DirectMessageRepository directMessageRepository;
+    private final ReferenceRepository referenceRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void run() {
+        int roles = memberRepository.backfillMissingRoles(UserRole.USER);
+        log.info("권한 없는 회원 보정 완료: {} 건", roles);
+
+        // 집계 컬럼 추가 전 등록된 별점 (별점 테이블 전체를 집계하므로 기동마다 돌리지 않는다)
+        int ratings = referenceRepository.backfillRatingStatistics();
+        log.info("게시글 별점 집계 보정 완료: {} 건", ratings);
+
+        // 대화 키(participant_low_id, participant_high_id) 추가 전 저장된 1:1 메시지
+        int conversations = directMessageRepository.backfillConversationKeys();
+        log.info("1:1 메시지 대화 키 보정 완료: {} 건", conversations);
+    }
+}
@@ -3,9 +3,11 @@ package setting.SettingServer.service;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import setting.SettingServer.common.exception.UnauthorizedException;
@@ -16,12 +18,18 @@ import setting.SettingServer.entity.Member;
 import setting.SettingServer.repository.DirectMessageRepository;
 import setting.SettingServer.repository.MemberRepository;
 import setting.SettingServer.service.response.DirectMessageResponse;
+import setting.SettingServer.service.response.DirectMessageSliceResponse;
+
+import java.util.Comparator;
+import java.util.List;
 
 @Service
 @Slf4j
 @AllArgsConstructor
 public class DirectMessageService {
 
+    private static final int MAX_CONVERSATION_LIMIT = 100;
+
     private final DirectMessageRepository directMessageRepository;
     private final MemberRepository memberRepository;
 
@@ -94,7 +102,8 @@ public class DirectMessageService {
         });
     }
 
-    public Page<DirectMessageResponse> getReceivedMessages(Long memberId, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Slice<DirectMessageResponse> getReceivedMessages(Long memberId, Pageable pageable) {
 
         log.debug("받은 메시지 조회: 회원 ID={}, 페이지 크기={}, 크기={}", memberId, pageable.getPageNumber(), pageable.getPageSize());
 
@@ -107,7 +116,7 @@ public class DirectMessageService {
     }
 
     @Transactional(readOnly = true)
-    public Page<DirectMessageResponse> getSentMessages(Long memberId, Pageable pageable) {
+    public Slice<DirectMessageResponse> getSentMessages(Long memberId, Pageable pageable) {
 
         log.debug("보낸 메시지 조회: 회원 ID={}, 페이지={}, 크기={}", memberId, pageable.getPageNumber(), pageable.getPageSize());
 
@@ -120,10 +129,49 @@ public class DirectMessageService {
                 .map(DirectMessageResponse::from);
     }
 
-    @Transactional
-    public Page<DirectMessageResponse> getConversation(Long userId, Long otherUserId, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Slice<DirectMessageResponse> getConversation(Long userId, Long otherUserId, Pageable pageable) {
         log.debug("대화 내역 조회: 사용자 ID={}, 상대방 ID={}", userId, otherUserId);
 
+        validateConversationMembers(userId, otherUserId);
+
+        return directMessageRepository.findConversation(Math.min(userId, otherUserId), Math.max(userId, otherUserId), pageable)
+                .map(DirectMessageResponse::from);
+    }
+
+    /**
+     * 대화 내역 커서 조회
+     * before 메시지 ID 보다 이전 메시지를 limit 개 조회한다 (before 가 없으면 최신 메시지부터)
+     */
+    @Transactional(readOnly = true)
+    public DirectMessageSliceResponse getConversationBefore(Long userId, Long otherUserId, Long before, int limit) {
+        log.debug("대화 내역 커서 조회: 사용자 ID={}, 상대방 ID={}, before={}, limit={}", userId, otherUserId, before, limit);
+
+        validateConversationMembers(userId, otherUserId);
+
+        Long lowId = Math.min(userId, otherUserId);
+        Long highId = Math.max(userId, otherUserId);
+        int pageSize = Math.min(Math.max(limit, 1), MAX_CONVERSATION_LIMIT);
+        // 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 한 건 더 조회
+        Limit fetchLimit = Limit.of(pageSize + 1);
+
+        List<DirectMessage> messages = before == null
+                ? directMessageRepository.findByParticipantLowIdAndParticipantHighIdOrderByIdDesc(lowId, highId, fetchLimit)
+                : directMessageRepository.findByParticipantLowIdAndParticipantHighIdAndIdLessThanOrderByIdDesc(lowId, highId, before, fetchLimit);
+
+        boolean hasNext = messages.size() > pageSize;
+        List<DirectMessage> pageMessages = hasNext ? messages.subList(0, pageSize) : messages;
+        Long nextCursor = hasNext ? pageMessages.get(pageMessages.size() - 1).getId() : null;
+
+        List<DirectMessageResponse> responses = pageMessages.stream()
+                .sorted(Comparator.comparing(DirectMessage::getId))
+                .map(DirectMessageResponse::from)
+                .toList();
+
+        return new DirectMessageSliceResponse(responses, nextCursor, hasNext);
+    }
+
+    private void validateConversationMembers(Long userId, Long otherUserId) {
         if (!memberRepository.existsById(userId)) {
             throw new EntityNotFoundException("회원을 찾을 수 없습니다(ID: " + userId + ")");
         }
@@ -131,9 +179,6 @@ public class DirectMessageService {
         if (!memberRepository.existsById(otherUserId)) {
             throw new EntityNotFoundException("상대 회원을 찾을 수 없습니다(ID: " + otherUserId + ")");
         }
-
-        return directMessageRepository.findConversation(userId, otherUserId, pageable)
-                .map(DirectMessageResponse::from);
     }
 
     @Transactional
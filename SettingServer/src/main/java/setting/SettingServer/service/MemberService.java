@@ -1,9 +1,12 @@
 package setting.SettingServer.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,13 +15,21 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import setting.SettingServer.common.exception.UserNotFoundException;
+import setting.SettingServer.config.redis.CacheNames;
+import setting.SettingServer.config.jwt.service.TokenDenylist;
 import setting.SettingServer.dto.*;
 import setting.SettingServer.entity.Member;
+import setting.SettingServer.repository.MemberExportRepository;
 import setting.SettingServer.repository.MemberRepository;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -26,13 +37,14 @@ import java.util.stream.Collectors;
 public class MemberService {
 
     private final MemberRepository memberRepository; // PostgreSQL
-    private final RedisTemplate<String, List<MemberProfileResponse>> redisTemplate; // Redis
-    private final RedisTemplate<String, MemberProfileResponse> memberRedisTemplate;
+    private final MemberExportRepository memberExportRepository; // 내보내기 (JDBC 커서)
+    private final ObjectMapper objectMapper;
     private final GcpStorageService gcpStorageService;
     private final PasswordEncoder passwordEncoder;
+    private final TokenDenylist tokenDenylist;
 
 
-    @Cacheable(cacheNames = "memberCache", key = "#id", unless = "#result == null")
+    @Cacheable(cacheNames = CacheNames.MEMBER, key = "#id", unless = "#result == null")
     @Transactional(readOnly = true)
     public MemberProfileResponse findMember(Long id) {
 
@@ -41,26 +53,47 @@ public class MemberService {
                 .orElseThrow(() -> new UserNotFoundException("Member not found with id: " + id));
     }
 
-    @Cacheable(cacheNames = "allMembersCache", unless = "#result.isEmpty()")
+    /**
+     * 회원 목록 조회 (커서 기반, 페이지 단위 캐시)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size
+     */
+    @Cacheable(cacheNames = CacheNames.MEMBER_DIRECTORY, key = "(#cursor ?: 0) + ':' + #size")
     @Transactional(readOnly = true)
-    public List<MemberProfileResponse> findAllMember() {
+    public MemberDirectoryResponse getMemberDirectory(Long cursor, int size) {
+        List<Member> members = memberRepository.findByIdGreaterThanOrderByIdAsc(
+                cursor != null ? cursor : 0L, Limit.of(size + 1));
 
-        String cacheKey = "allMembers";
-
-        List<MemberProfileResponse> cachedMembers = redisTemplate.opsForValue().get(cacheKey);
-        if (cachedMembers != null && !cachedMembers.isEmpty()) {
-            return cachedMembers;
-        }
-
-        List<MemberProfileResponse> members = memberRepository.findAll().stream()
+        boolean hasNext = members.size() > size;
+        List<MemberProfileResponse> page = members.stream()
+                .limit(size)
                 .map(MemberProfileResponse::from)
-                .collect(Collectors.toList());
+                .toList();
+        Long nextCursor = hasNext ? page.get(page.size() - 1).id() : null;
 
-        if (!members.isEmpty()) {
-            redisTemplate.opsForValue().set(cacheKey, members, 1, TimeUnit.HOURS);
+        return new MemberDirectoryResponse(page, nextCursor, hasNext);
+    }
 
+    /**
+     * 회원 전체 내보내기 (NDJSON, 한 줄에 회원 하나)
+     * 목록을 메모리에 모으지 않고 커서로 읽는 대로 바로 쓴다
+     */
+    @Transactional(readOnly = true)
+    public void exportMembers(OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try {
+            memberExportRepository.streamAll(member -> {
+                try {
+                    writer.write(objectMapper.writeValueAsString(member));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
-            return members;
+        writer.flush();
     }
 
     @Transactional(readOnly = true)
@@ -70,6 +103,10 @@ public class MemberService {
         return ProfileResponse.fromMember(member);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.MEMBER, key = "#id"),
+            @CacheEvict(cacheNames = CacheNames.MEMBER_DIRECTORY, allEntries = true)
+    })
     @Transactional
     public MemberResponse editMember(Long id, MemberUpdateRequest request) {
         log.info("Editing member with id: {} ", id);
@@ -81,7 +118,6 @@ public class MemberService {
             updateMemberDetails(member, request, encryptedPassword);
             memberRepository.save(member);
 
-            updateRedisMemberCache(member);
 
             log.info("Member updated successfully. Member url: {}", member.getImageUrl());
             return MemberResponse.of(member);
@@ -91,23 +127,23 @@ public class MemberService {
         }
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.MEMBER, key = "#id"),
+            @CacheEvict(cacheNames = CacheNames.MEMBER_DIRECTORY, allEntries = true)
+    })
     @Transactional
     public void deleteMember(Long id) {
         Member member = findMemberById(id);
         memberRepository.delete(member);
+        tokenDenylist.revokeMember(id);
     }
 
-    private void updateRedisMemberCache(Member member) {
-        String cacheKey = "member:" + member.getId();
-        MemberProfileResponse memberDto = MemberProfileResponse.from(member);
-        memberRedisTemplate.opsForValue().set(cacheKey, memberDto, 1, TimeUnit.HOURS);
-
-        updateAllMembersCache();
-    }
-
-    private void updateAllMembersCache() {
-        String cacheKey = "allMembers";
-        redisTemplate.delete(cacheKey);
+    /**
+     * 강제 로그아웃: 지금까지 발급된 회원의 모든 토큰을 폐기한다
+     */
+    public void signOut(Long id) {
+        Member member = findMemberById(id);
+        tokenDenylist.revokeMember(member.getId());
     }
 
     private void updateMemberDetails(Member member, MemberUpdateRequest request, String encryptedPassword) {
@@ -8,11 +8,15 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import setting.SettingServer.config.redis.MemberDirectoryCache;
 import setting.SettingServer.entity.Member;
 import setting.SettingServer.entity.OauthUser;
+import setting.SettingServer.entity.UserRole;
 import setting.SettingServer.repository.MemberRepository;
 import setting.SettingServer.user.OAuth2UserInfo;
 
+import java.util.Optional;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -21,14 +25,19 @@ public class OauthService {
     private final MemberRepository memberRepository;
     private final ObjectMapper objectMapper;
     private final RestTemplate restTemplate;
+    private final MemberDirectoryCache memberDirectoryCache;
 
     public Member processOAuthPostLogin(OAuth2UserInfo oAuth2UserInfo) {
         String email = oAuth2UserInfo.getEmail();
-        Member member = memberRepository.findByEmail(email)
-                .orElseGet(() -> createNewMember(oAuth2UserInfo));
+        Optional<Member> existing = memberRepository.findByEmail(email);
+        Member member = existing.orElseGet(() -> createNewMember(oAuth2UserInfo));
 
         updateMemberIfNeeded(member, oAuth2UserInfo);
-        return memberRepository.save(member);
+        Member saved = memberRepository.save(member);
+        if (existing.isEmpty()) {
+            memberDirectoryCache.evictAll();
+        }
+        return saved;
     }
 
     private void updateMemberIfNeeded(Member member, OAuth2UserInfo oAuth2UserInfo) {
@@ -39,6 +48,7 @@ public class OauthService {
                 .email(oAuth2UserInfo.getEmail())
                 .name(oAuth2UserInfo.getName())
                 .imageUrl(oAuth2UserInfo.getProfileImageUrl())
+                .role(UserRole.USER)
                 .type(oAuth2UserInfo.getProvider())
                 .build();
     }
@@ -12,13 +12,10 @@ import setting.SettingServer.entity.Reference;
 import setting.SettingServer.repository.MemberRepository;
 import setting.SettingServer.repository.RatingRepository;
 import setting.SettingServer.repository.ReferenceRepository;
-import setting.SettingServer.repository.ScoreCount;
 import setting.SettingServer.service.request.RatingCreateRequest;
 import setting.SettingServer.service.request.RatingUpdateRequest;
 import setting.SettingServer.service.response.RatingStatisticsResponse;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 public class RatingService {
@@ -26,6 +23,7 @@ public class RatingService {
     private final RatingRepository ratingRepository;
     private final ReferenceRepository referenceRepository;
     private final MemberRepository memberRepository;
+    private final ReferenceRankingService referenceRankingService;
 
     @Transactional
     public Long createRating(RatingCreateRequest request) {
@@ -47,7 +45,7 @@ public class RatingService {
                 .build();
 
         Rating savedRating = ratingRepository.save(rating);
-        updateReferenceAverageRating(reference);
+        applyRatingChange(reference.getId(), null, request.score());
 
         return savedRating.getId();
     }
@@ -61,25 +59,54 @@ public class RatingService {
             throw new UnauthorizedException("별점을 수정할 권한이 없습니다");
         }
 
+        int previousScore = rating.getScore();
         rating.updateScore(request.score());
-        updateReferenceAverageRating(rating.getReference());
+        if (previousScore != request.score()) {
+            applyRatingChange(rating.getReference().getId(), previousScore, request.score());
+        }
     }
 
+    /**
+     * 별점 통계 조회
+     * 게시글에 저장된 집계 값을 그대로 사용한다 (별점 테이블을 읽지 않음)
+     */
+    @Transactional(readOnly = true)
     public RatingStatisticsResponse getStatistics(Long referenceId) {
-        Double averageScore = ratingRepository.calculateAverageScore(referenceId).orElse(0.0);
+        Reference reference = referenceRepository.findById(referenceId)
+                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 게시글 입니다."));
+
+        return RatingStatisticsResponse.from(reference);
+    }
 
-        List<ScoreCount> distribution = ratingRepository.getScoreDistribution(referenceId);
-        long totalCount = ratingRepository.countingByReferenceId(referenceId);
+    /**
+     * 게시글 별점 집계 갱신
+     * 전체 평균을 다시 계산하지 않고, 바뀐 점수만큼 합계/개수/점수별 개수를 한 번의 UPDATE 로 반영한다
+     * @param removedScore 빠지는 점수 (신규 등록이면 null)
+     * @param addedScore 더해지는 점수
+     */
+    private void applyRatingChange(Long referenceId, Integer removedScore, int addedScore) {
+        int[] starDelta = new int[6];
+        starDelta[validScore(addedScore)]++;
+        if (removedScore != null) {
+            starDelta[validScore(removedScore)]--;
+        }
+
+        long sumDelta = addedScore - (removedScore != null ? removedScore : 0);
+        int countDelta = removedScore == null ? 1 : 0;
 
-        return new RatingStatisticsResponse(
-                averageScore,
-                distribution,
-                totalCount
-        );
+        int updated = referenceRepository.applyRatingChange(referenceId, sumDelta, countDelta,
+                starDelta[1], starDelta[2], starDelta[3], starDelta[4], starDelta[5]);
+        if (updated == 0) {
+            throw new EntityNotFoundException("존재하지 않는 게시글 입니다.");
+        }
+
+        referenceRankingService.recordRating(referenceId, (int) sumDelta);
     }
 
-    private void updateReferenceAverageRating(Reference reference) {
-        Double averageScore = ratingRepository.calculateAverageScore(reference.getId()).orElse(0.0);
-        reference.updateAverageRating(averageScore);
+    private int validScore(int score) {
+        if (score < 1 || score > 5) {
+            throw new IllegalArgumentException("별점은 1-5 사이의 값이어야 합니다");
+        }
+        return score;
     }
 }
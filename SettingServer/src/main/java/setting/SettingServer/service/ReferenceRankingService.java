@@ -0,0 +1,271 @@
+package setting.SettingServer.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import setting.SettingServer.repository.ReferenceRepository;
+import setting.SettingServer.repository.ReferenceScore;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * 참고 자료 순위 (Redis ZSET)
+ * 조회/별점 이벤트가 생길 때마다 점수를 누적해 두고, 목록 조회는 ZSET 범위 조회로 처리한다.
+ *
+ * - popular: 평균 별점 순위 (reference:popular, score = 평균 별점)
+ * - trending: 일자별 버킷(reference:trending:{yyyyMMdd})에 이벤트 점수를 누적하고,
+ *   최근 7일 버킷을 날짜가 오래될수록 낮은 가중치(반감기)로 합산한다
+ * - 합산 결과는 짧게 캐시(reference:trending:current)해 조회마다 ZUNIONSTORE 하지 않는다
+ * - Redis 반영은 트랜잭션 커밋 후에 한다 (롤백된 이벤트가 순위에 남지 않도록)
+ */
+@Service
+@Slf4j
+public class ReferenceRankingService {
+
+    private static final String POPULAR_KEY = "reference:popular";
+    private static final String TRENDING_KEY_PREFIX = "reference:trending:";
+    private static final String TRENDING_CURRENT_KEY = TRENDING_KEY_PREFIX + "current";
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private static final int WINDOW_DAYS = 7;
+    // 기존 정렬식(평균 별점 * 10 + 조회수 / 100)과 같은 비율을 이벤트 단위로 적용
+    private static final double VIEW_WEIGHT = 0.01;
+    private static final double RATING_POINT_WEIGHT = 2.0;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ReferenceRepository referenceRepository;
+    private final Clock clock;
+    private final double halfLifeDays;
+    private final Duration trendingCacheTtl;
+
+    @Autowired
+    public ReferenceRankingService(StringRedisTemplate stringRedisTemplate,
+                                   ReferenceRepository referenceRepository,
+                                   @Value("${app.reference.trending.half-life-days:2}") double halfLifeDays,
+                                   @Value("${app.reference.trending.cache-ttl-seconds:30}") long trendingCacheTtlSeconds) {
+        this(stringRedisTemplate, referenceRepository, Clock.systemDefaultZone(), halfLifeDays, trendingCacheTtlSeconds);
+    }
+
+    // 일자별 버킷 키가 날짜에 따라 바뀌므로 테스트에서는 고정된 시계를 넣는다
+    ReferenceRankingService(StringRedisTemplate stringRedisTemplate,
+                            ReferenceRepository referenceRepository,
+                            Clock clock,
+                            double halfLifeDays,
+                            long trendingCacheTtlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.referenceRepository = referenceRepository;
+        this.clock = clock;
+        this.halfLifeDays = halfLifeDays;
+        this.trendingCacheTtl = Duration.ofSeconds(trendingCacheTtlSeconds);
+    }
+
+    // ================= 이벤트 반영 =================
+
+    /**
+     * 조회수 반영 (ReferenceViewCountBuffer 가 DB 에 반영한 증가분을 한 번에 전달)
+     */
+    public void recordViews(List<Map.Entry<Long, Long>> increments) {
+        String bucketKey = todayBucketKey();
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                increments.forEach(increment ->
+                        redis.zIncrBy(bucketKey, increment.getValue() * VIEW_WEIGHT, String.valueOf(increment.getKey())));
+                redis.expire(bucketKey, bucketTtl().toSeconds());
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("인기 순위 조회수 반영 실패: {} 건", increments.size(), e);
+        }
+    }
+
+    /**
+     * 별점 등록/수정 반영
+     * 평균 별점은 커밋 후에 다시 읽는다. 트랜잭션 안에서 읽은 값은 동시에 커밋된 다른 별점이 빠져 있을 수 있다.
+     * @param scoreDelta 바뀐 점수 합 (신규 등록이면 점수, 수정이면 새 점수 - 이전 점수)
+     */
+    public void recordRating(Long referenceId, int scoreDelta) {
+        afterCommit(() -> {
+            String member = String.valueOf(referenceId);
+            String bucketKey = todayBucketKey();
+            double averageRating = referenceRepository.findAverageRatingById(referenceId).orElse(0.0);
+            stringRedisTemplate.opsForZSet().add(POPULAR_KEY, member, averageRating);
+            stringRedisTemplate.opsForZSet().incrementScore(bucketKey, member, scoreDelta * RATING_POINT_WEIGHT);
+            stringRedisTemplate.expire(bucketKey, bucketTtl());
+        });
+    }
+
+    public void addReference(Long referenceId) {
+        afterCommit(() -> stringRedisTemplate.opsForZSet().add(POPULAR_KEY, String.valueOf(referenceId), 0.0));
+    }
+
+    public void removeReference(Long referenceId) {
+        afterCommit(() -> removeAll(List.of(referenceId)));
+    }
+
+    /**
+     * 순위에는 있지만 DB 에 없는 (삭제된) 게시글 정리
+     * 조회 중에 발견한 ID 를 바로 지워, 이후 조회의 전체 건수(ZCARD)가 실제 목록과 맞도록 한다
+     */
+    public void removeStaleReferences(Collection<Long> referenceIds) {
+        if (referenceIds.isEmpty()) {
+            return;
+        }
+        try {
+            removeAll(referenceIds);
+            log.info("순위에서 삭제된 게시글 정리: {}", referenceIds);
+        } catch (DataAccessException e) {
+            log.warn("순위에서 삭제된 게시글 정리 실패: {}", referenceIds, e);
+        }
+    }
+
+    // ================= 조회 =================
+
+    /**
+     * 평균 별점 순위 ID 목록
+     */
+    public List<Long> getPopularIds(long offset, int size) {
+        return toIds(stringRedisTemplate.opsForZSet().reverseRange(POPULAR_KEY, offset, offset + size - 1));
+    }
+
+    public long countPopular() {
+        Long count = stringRedisTemplate.opsForZSet().zCard(POPULAR_KEY);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 최근 일주일 인기 순위 ID 목록 (시간 감쇠 적용)
+     */
+    public List<Long> getTrendingIds(int size) {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(TRENDING_CURRENT_KEY))) {
+            refreshTrending();
+        }
+        return toIds(stringRedisTemplate.opsForZSet().reverseRange(TRENDING_CURRENT_KEY, 0, size - 1));
+    }
+
+    // 오늘 버킷 가중치 1, 하루 지날 때마다 반감기에 맞춰 감소
+    private void refreshTrending() {
+        List<String> keys = windowBucketKeys();
+        double[] weights = IntStream.range(0, keys.size())
+                .mapToDouble(age -> Math.pow(0.5, age / halfLifeDays))
+                .toArray();
+
+        stringRedisTemplate.opsForZSet().unionAndStore(keys.get(0), keys.subList(1, keys.size()),
+                TRENDING_CURRENT_KEY, Aggregate.SUM, Weights.of(weights));
+        stringRedisTemplate.expire(TRENDING_CURRENT_KEY, trendingCacheTtl);
+    }
+
+    // ================= 초기화 =================
+
+    /**
+     * 순위 키가 없으면 DB 값으로 채운다 (최초 배포, Redis 초기화 시)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(POPULAR_KEY))) {
+                List<ReferenceScore> scores = referenceRepository.findAllScores();
+                addAll(POPULAR_KEY, scores, ReferenceScore::getAverageRating);
+                log.info("평균 별점 순위 초기화: {} 건", scores.size());
+            }
+
+            if (windowBucketKeys().stream().noneMatch(key -> Boolean.TRUE.equals(stringRedisTemplate.hasKey(key)))) {
+                List<ReferenceScore> scores = referenceRepository.findRecentScores(
+                        LocalDate.now(clock).minusDays(WINDOW_DAYS).atStartOfDay());
+                addAll(todayBucketKey(), scores,
+                        score -> score.getAverageRating() * 10 + score.getViewCount() * VIEW_WEIGHT);
+                stringRedisTemplate.expire(todayBucketKey(), bucketTtl());
+                log.info("인기 순위 초기화: {} 건", scores.size());
+            }
+        } catch (DataAccessException e) {
+            log.warn("참고 자료 순위 초기화 실패", e);
+        }
+    }
+
+    private void addAll(String key, List<ReferenceScore> scores, ToDoubleFunction<ReferenceScore> scoreFunction) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            scores.forEach(score -> redis.zAdd(key, scoreFunction.applyAsDouble(score), String.valueOf(score.getId())));
+            return null;
+        });
+    }
+
+    // ================= 공통 헬퍼 메서드 =================
+
+    private void removeAll(Collection<Long> referenceIds) {
+        Object[] members = referenceIds.stream().map(String::valueOf).toArray();
+        stringRedisTemplate.opsForZSet().remove(POPULAR_KEY, members);
+        stringRedisTemplate.opsForZSet().remove(TRENDING_CURRENT_KEY, members);
+        windowBucketKeys().forEach(key -> stringRedisTemplate.opsForZSet().remove(key, members));
+    }
+
+    private String todayBucketKey() {
+        return TRENDING_KEY_PREFIX + LocalDate.now(clock).format(BUCKET_FORMAT);
+    }
+
+    // 오늘부터 과거 순으로 7일치 버킷 키
+    private List<String> windowBucketKeys() {
+        LocalDate today = LocalDate.now(clock);
+        List<String> keys = new ArrayList<>(WINDOW_DAYS);
+        for (int age = 0; age < WINDOW_DAYS; age++) {
+            keys.add(TRENDING_KEY_PREFIX + today.minusDays(age).format(BUCKET_FORMAT));
+        }
+        return keys;
+    }
+
+    // 버킷은 합산 범위를 벗어나면 자동으로 만료
+    private Duration bucketTtl() {
+        return Duration.ofDays(WINDOW_DAYS + 1);
+    }
+
+    private List<Long> toIds(Collection<String> members) {
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    private void afterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (DataAccessException e) {
+                log.warn("참고 자료 순위 반영 실패", e);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeAction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeAction.run();
+            }
+        });
+    }
+}
@@ -2,20 +2,22 @@ package setting.SettingServer.service;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import setting.SettingServer.common.exception.UnauthorizedException;
-import setting.SettingServer.config.SecurityUtil;
+import setting.SettingServer.config.CurrentMember;
 import setting.SettingServer.entity.Member;
 import setting.SettingServer.entity.Rating;
 import setting.SettingServer.entity.Reference;
 import setting.SettingServer.repository.MemberRepository;
 import setting.SettingServer.repository.RatingRepository;
 import setting.SettingServer.repository.ReferenceRepository;
-import setting.SettingServer.repository.ScoreCount;
 import setting.SettingServer.service.request.ReferenceCreateRequest;
 import setting.SettingServer.service.request.ReferenceUpdateRequest;
 import setting.SettingServer.service.response.ReferenceDetailResponse;
@@ -24,16 +26,24 @@ import setting.SettingServer.service.response.ReferenceResponse;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class ReferenceService {
 
+    private static final int TRENDING_SIZE = 20;
+
     private final ReferenceRepository referenceRepository;
     private final MemberRepository memberRepository;
     private final RatingRepository ratingRepository;
-    private final SecurityUtil securityUtil;
+    private final CurrentMember currentMember;
+    private final ReferenceViewCountBuffer referenceViewCountBuffer;
+    private final ReferenceRankingService referenceRankingService;
 
     /**
      * 참고 자료 생성
@@ -42,9 +52,9 @@ public class ReferenceService {
      */
     public Long createReference(ReferenceCreateRequest request) {
 
-        Long currentUserId = getCurrentUserId();
-
-        Member member = memberRepository.findById(request.memberId())
+        Member member = currentMember.is(request.memberId())
+                ? currentMember.getMember()
+                : memberRepository.findById(request.memberId())
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 회원입니다"));
 
         Reference reference = Reference.builder()
@@ -57,6 +67,7 @@ public class ReferenceService {
                 .build();
 
         Reference savedReference = referenceRepository.save(reference);
+        referenceRankingService.addReference(savedReference.getId());
         return savedReference.getId();
     }
 
@@ -92,6 +103,7 @@ public class ReferenceService {
         validateOwnership(reference);
 
         referenceRepository.delete(reference);
+        referenceRankingService.removeReference(referenceId);
     }
 
     /**
@@ -118,16 +130,16 @@ public class ReferenceService {
         Reference reference = referenceRepository.findById(referenceId)
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 게시글 입니다"));
 
-        reference.incrementViewCount();
+        // 조회수는 버퍼에만 기록하고 배치로 반영 (조회 경로에서 쓰기 없음)
+        referenceViewCountBuffer.increment(referenceId);
+        int viewCount = (int) (reference.getViewCount() + referenceViewCountBuffer.pendingCount(referenceId));
 
         Long currentUserId = getCurrentUserId();
         Integer userRating = ratingRepository.findByReferenceIdAndMemberId(referenceId, currentUserId)
                 .map(Rating::getScore)
                 .orElse(null);
 
-        List<ScoreCount> distribution = ratingRepository.getScoreDistribution(referenceId);
-
-        return ReferenceDetailResponse.fromWithRating(reference, userRating, distribution);
+        return ReferenceDetailResponse.fromWithRating(reference, userRating, viewCount);
     }
 
     /**
@@ -144,27 +156,39 @@ public class ReferenceService {
 
     /**
      * 인기 있는 참고 자료 목록 조회(평점순)
+     * Redis 순위에서 ID 를 꺼내고, Redis 를 사용할 수 없으면 DB 정렬로 조회한다
      * @param pageable
      * @return
      */
     @Transactional(readOnly = true)
     public Page<ReferenceListResponse> getPopularReferences(Pageable pageable) {
-        return referenceRepository.findByIsDeletedFalseOrderByAverageRatingDesc(pageable)
-                .map(ReferenceListResponse::from);
+        try {
+            List<Long> ids = referenceRankingService.getPopularIds(pageable.getOffset(), pageable.getPageSize());
+            List<ReferenceListResponse> content = findListResponses(ids);
+            // 삭제된 게시글을 순위에서 정리한 뒤의 건수
+            return new PageImpl<>(content, pageable, referenceRankingService.countPopular());
+        } catch (DataAccessException e) {
+            log.warn("평균 별점 순위 조회 실패, DB 조회로 대체", e);
+            return referenceRepository.findByIsDeletedFalseOrderByAverageRatingDesc(pageable)
+                    .map(ReferenceListResponse::from);
+        }
     }
 
     /**
-     * 최근 인기 있는 참고 자료 목록 조회 (최근 일주일 평점 + 조회수 기준)
+     * 최근 인기 있는 참고 자료 목록 조회 (최근 일주일 평점 + 조회수 기준, 시간 감쇠 적용)
      * @return
      */
     @Transactional(readOnly = true)
     public List<ReferenceListResponse> getRecentPopularReferences() {
-        LocalDateTime oneWeekAge = LocalDateTime.now().minusWeeks(1);
-
-        PageRequest pageRequest = PageRequest.of(0, 20);
-        return referenceRepository.findRecentPopularReferences(oneWeekAge, pageRequest).stream()
-                .map(ReferenceListResponse::from)
-                .collect(Collectors.toList());
+        try {
+            return findListResponses(referenceRankingService.getTrendingIds(TRENDING_SIZE));
+        } catch (DataAccessException e) {
+            log.warn("인기 순위 조회 실패, DB 조회로 대체", e);
+            LocalDateTime oneWeekAge = LocalDateTime.now().minusWeeks(1);
+            return referenceRepository.findRecentPopularReferences(oneWeekAge, PageRequest.of(0, TRENDING_SIZE)).stream()
+                    .map(ReferenceListResponse::from)
+                    .collect(Collectors.toList());
+        }
     }
 
     /**
@@ -205,10 +229,34 @@ public class ReferenceService {
     // ================= 공통 헬퍼 메서드 =================
 
     /**
-     * 현재 로그인한 사용자의 ID를 Long 타입으로 반환
+     * 순위 순서를 유지하며 ID 목록으로 게시글 조회 (삭제된 게시글은 제외하고 순위에서도 정리)
+     */
+    private List<ReferenceListResponse> findListResponses(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Reference> references = referenceRepository.findWithAuthorByIdIn(ids).stream()
+                .filter(reference -> !Boolean.TRUE.equals(reference.getIsDeleted()))
+                .collect(Collectors.toMap(Reference::getId, Function.identity()));
+
+        List<Long> staleIds = ids.stream()
+                .filter(id -> !references.containsKey(id))
+                .toList();
+        referenceRankingService.removeStaleReferences(staleIds);
+
+        return ids.stream()
+                .map(references::get)
+                .filter(Objects::nonNull)
+                .map(ReferenceListResponse::from)
+                .toList();
+    }
+
+    /**
+     * 현재 로그인한 사용자의 ID 반환
      */
     private Long getCurrentUserId() {
-        return Long.parseLong(securityUtil.getCurrentMemberUsername());
+        return currentMember.getId();
     }
 
     /**
@@ -226,8 +274,7 @@ public class ReferenceService {
      * @param reference
      */
     private void validateOwnership(Reference reference) {
-       Long currentUserId = getCurrentUserId();
-       if (!reference.getAuthor().getUserId().equals(currentUserId)) {
+       if (!currentMember.is(reference.getAuthor().getId())) {
            throw new UnauthorizedException("게시글에 대한 권한이 없습니다");
        }
     }
@@ -0,0 +1,104 @@
+package setting.SettingServer.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import setting.SettingServer.repository.ReferenceViewCountRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 버퍼
+ * 조회할 때마다 행을 갱신하지 않고 게시글별 LongAdder 에 모았다가, 주기적으로 한 번의 배치 UPDATE 로 반영한다.
+ *
+ * - 조회 경로는 메모리 카운터만 증가시키므로 DB 쓰기/행 잠금이 없다
+ * - 반영 실패 시 증가분을 버퍼에 되돌려 다음 주기에 다시 반영한다
+ * - 아직 반영되지 않은 증가분은 pendingCount 로 조회할 수 있다 (상세 조회 응답의 실시간 조회수)
+ * - 반영된 증가분은 인기 순위(ReferenceRankingService)에도 함께 누적한다
+ */
+@Component
+@Slf4j
+public class ReferenceViewCountBuffer {
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final ReferenceViewCountRepository referenceViewCountRepository;
+    private final ReferenceRankingService referenceRankingService;
+
+    public ReferenceViewCountBuffer(ReferenceViewCountRepository referenceViewCountRepository,
+                                    ReferenceRankingService referenceRankingService,
+                                    MeterRegistry meterRegistry) {
+        this.referenceViewCountRepository = referenceViewCountRepository;
+        this.referenceRankingService = referenceRankingService;
+
+        Gauge.builder("reference.view_count.pending", pending, Map::size)
+                .description("반영 대기 중인 게시글 수")
+                .register(meterRegistry);
+    }
+
+    public void increment(Long referenceId) {
+        add(referenceId, 1);
+    }
+
+    public long pendingCount(Long referenceId) {
+        LongAdder adder = pending.get(referenceId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${app.reference.view-count.flush-delay-ms:5000}")
+    public void flush() {
+        List<Map.Entry<Long, Long>> increments = new ArrayList<>();
+        pending.forEach((referenceId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                increments.add(Map.entry(referenceId, delta));
+            } else {
+                // 한 주기 동안 조회가 없던 게시글은 정리해 맵이 계속 커지지 않도록 한다
+                // 정리 직전에 더해진 증가분이 있으면 남겨 둔다
+                pending.computeIfPresent(referenceId, (id, current) -> current.sum() == 0 ? null : current);
+            }
+        });
+
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        increments.sort(Map.Entry.comparingByKey());
+        try {
+            referenceViewCountRepository.incrementAll(increments);
+        } catch (DataAccessException e) {
+            log.warn("조회수 반영 실패, 다음 주기에 재시도: {} 건", increments.size(), e);
+            increments.forEach(increment -> add(increment.getKey(), increment.getValue()));
+            return;
+        }
+
+        referenceRankingService.recordViews(increments);
+    }
+
+    /**
+     * 조회 경로는 잠금 없이 LongAdder 에 더한다.
+     * flush 가 빈 카운터를 맵에서 정리한 뒤에 더했다면 그 증가분은 버려진 카운터에 들어갔으므로 새 카운터에 다시 더한다.
+     * (정리는 합계가 0 일 때만 하므로, 정리 전에 더해진 증가분은 정리되지 않은 카운터에 남는다)
+     */
+    private void add(Long referenceId, long delta) {
+        while (true) {
+            LongAdder adder = pending.computeIfAbsent(referenceId, id -> new LongAdder());
+            adder.add(delta);
+            if (pending.get(referenceId) == adder) {
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,249 @@
+package setting.SettingServer.service.chat;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.messaging.MessagingException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import setting.SettingServer.common.id.Snowflake;
+import setting.SettingServer.config.redis.ChatBrokerMode;
+import setting.SettingServer.dto.chat.EphemeralEventBatch;
+import setting.SettingServer.repository.chat.ChatRoomMembership;
+import setting.SettingServer.repository.chat.ChatRoomRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * 휘발성 채팅 이벤트 (입력 중 표시, 실시간 읽음 위치)
+ * 메시지 저장 경로(write-behind 버퍼, PostgreSQL)를 거치지 않고, 채팅방/회원별로 마지막 상태만 모아
+ * 짧은 주기마다 채팅방 ephemeral 채널로 한 번에 전달한다. 전달은 유실되어도 되므로 재시도하지 않는다.
+ * 읽음 위치 저장은 ChatReadReceiptBuffer 가 따로 모아 반영한다.
+ *
+ * - 같은 회원의 이벤트는 flush 전까지 덮어쓴다 (읽음 위치는 더 큰 메시지 ID 만 유지)
+ * - 직전에 보낸 것과 같은 상태는 throttle 시간 동안 다시 보내지 않는다
+ * - 대기 항목이 한도를 넘으면 새 이벤트는 큐에 쌓지 않고 버린다 (재시도 없음)
+ * - 채팅방 참여 여부는 ChatMembershipCache 로 확인하여 이벤트마다 DB 를 조회하지 않는다
+ * - 읽음 위치는 채팅방의 마지막 메시지를 넘을 수 없다 (아직 저장 중일 수 있는 최근 메시지는 ID 발급 시각으로 확인)
+ */
+@Service
+@Slf4j
+public class ChatEphemeralService {
+
+    private final ChatMembershipCache chatMembershipCache;
+    private final ChatReadReceiptBuffer chatReadReceiptBuffer;
+    private final ChatRoomBroadcaster chatRoomBroadcaster;
+    private final ChatRoomRepository chatRoomRepository;
+    private final int maxPending;
+    private final long unpersistedWindowMillis;
+
+    // flush 전까지 채팅방/회원별 마지막 상태
+    private final Map<RoomMember, Boolean> pendingTyping = new ConcurrentHashMap<>();
+    private final Map<RoomMember, Long> pendingReadCursors = new ConcurrentHashMap<>();
+
+    // 마지막으로 보낸 상태 (throttle 시간이 지나면 자동으로 빠진다)
+    private final Cache<RoomMember, Boolean> lastTyping;
+    private final Cache<RoomMember, Long> lastReadCursors;
+
+    private final Counter accepted;
+    private final Counter throttled;
+    private final Counter dropped;
+
+    public ChatEphemeralService(ChatMembershipCache chatMembershipCache,
+                                ChatReadReceiptBuffer chatReadReceiptBuffer,
+                                ChatRoomBroadcaster chatRoomBroadcaster,
+                                ChatRoomRepository chatRoomRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${chat.ephemeral.max-pending:10000}") int maxPending,
+                                @Value("${chat.ephemeral.throttle-ms:3000}") long throttleMillis,
+                                @Value("${chat.read-receipt.unpersisted-window-ms:10000}") long unpersistedWindowMillis) {
+        this.chatMembershipCache = chatMembershipCache;
+        this.chatReadReceiptBuffer = chatReadReceiptBuffer;
+        this.chatRoomBroadcaster = chatRoomBroadcaster;
+        this.chatRoomRepository = chatRoomRepository;
+        this.maxPending = maxPending;
+        this.unpersistedWindowMillis = unpersistedWindowMillis;
+
+        this.lastTyping = CacheBuilder.newBuilder()
+                .maximumSize(maxPending)
+                .expireAfterWrite(throttleMillis, TimeUnit.MILLISECONDS)
+                .build();
+        this.lastReadCursors = CacheBuilder.newBuilder()
+                .maximumSize(maxPending)
+                .expireAfterWrite(throttleMillis, TimeUnit.MILLISECONDS)
+                .build();
+
+        this.accepted = Counter.builder("chat.ephemeral.events")
+                .tag("result", "accepted")
+                .description("휘발성 이벤트 처리 결과")
+                .register(meterRegistry);
+        this.throttled = Counter.builder("chat.ephemeral.events")
+                .tag("result", "throttled")
+                .description("휘발성 이벤트 처리 결과")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("chat.ephemeral.events")
+                .tag("result", "dropped")
+                .description("휘발성 이벤트 처리 결과")
+                .register(meterRegistry);
+        Gauge.builder("chat.ephemeral.pending", this, ChatEphemeralService::pendingSize)
+                .description("전달 대기 중인 휘발성 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    private record RoomMember(String roomCode, Long memberId) {
+    }
+
+    // ================= 이벤트 수신 =================
+
+    /**
+     * 입력 중 상태
+     */
+    public void typing(String roomCode, Long memberId, boolean typing) {
+        RoomMember key = new RoomMember(roomCode, memberId);
+        if (Boolean.valueOf(typing).equals(lastTyping.getIfPresent(key)) && !pendingTyping.containsKey(key)) {
+            throttled.increment();
+            return;
+        }
+        if (!hasRoom(key, pendingTyping) || membershipOf(key).isEmpty()) {
+            return;
+        }
+
+        pendingTyping.put(key, typing);
+        accepted.increment();
+    }
+
+    /**
+     * 실시간 읽음 위치
+     * 읽음 위치는 저장 버퍼에 기록하고, 다른 멤버에게는 flush 주기마다 한 번만 전달한다
+     * @return 채팅방 멤버가 아니면 false
+     * @throws IllegalArgumentException 채팅방에 없는 메시지 ID
+     */
+    public boolean readCursor(String roomCode, Long memberId, Long messageId) {
+        RoomMember key = new RoomMember(roomCode, memberId);
+        Long last = lastReadCursors.getIfPresent(key);
+        if (last != null && last >= messageId) {
+            // 이미 기록되고 전달된 위치
+            throttled.increment();
+            return true;
+        }
+
+        Optional<ChatRoomMembership> membership = membershipOf(key);
+        if (membership.isEmpty()) {
+            return false;
+        }
+        if (!isKnownMessage(membership.get().getChatRoomId(), messageId)) {
+            throw new IllegalArgumentException("메시지가 해당 채팅방의 것이 아닙니다");
+        }
+        chatReadReceiptBuffer.record(membership.get().getChatRoomId(), memberId, messageId);
+
+        if (hasRoom(key, pendingReadCursors)) {
+            pendingReadCursors.merge(key, messageId, Math::max);
+            accepted.increment();
+        }
+        return true;
+    }
+
+    /**
+     * 채팅방의 마지막 메시지 ID 이하이거나, 아직 저장 대기 중일 수 있는 최근에 발급된 ID 인지 확인
+     * 최근 ID 가 실제로 없는 메시지여도 ChatReadReceiptRepository 가 저장된 마지막 메시지까지만 반영한다
+     */
+    private boolean isKnownMessage(Long chatRoomId, Long messageId) {
+        long now = System.currentTimeMillis();
+        long issuedAt = Snowflake.timestampOf(messageId);
+        if (issuedAt > now) {
+            return false;
+        }
+        if (issuedAt >= now - unpersistedWindowMillis) {
+            return true;
+        }
+        return chatRoomRepository.findLastMessageIdById(chatRoomId)
+                .map(lastMessageId -> messageId <= lastMessageId)
+                .orElse(false);
+    }
+
+    // 이미 대기 중인 항목은 덮어쓰므로 한도와 무관하다
+    private boolean hasRoom(RoomMember key, Map<RoomMember, ?> pending) {
+        if (pending.containsKey(key) || pendingSize() < maxPending) {
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    private Optional<ChatRoomMembership> membershipOf(RoomMember key) {
+        try {
+            return chatMembershipCache.get(key.roomCode(), key.memberId());
+        } catch (DataAccessException e) {
+            // 확인할 수 없으면 이벤트를 버린다
+            dropped.increment();
+            log.debug("채팅방 참여 여부 확인 실패: roomCode={}, memberId={}", key.roomCode(), key.memberId());
+            return Optional.empty();
+        }
+    }
+
+    // ================= 전달 =================
+
+    /**
+     * 대기 중인 이벤트를 채팅방별로 묶어 전달
+     * 전달에 실패한 이벤트는 다시 보내지 않는다
+     */
+    @Scheduled(fixedDelayString = "${chat.ephemeral.flush-delay-ms:250}")
+    public void flush() {
+        Map<String, List<EphemeralEventBatch.Typing>> typing = new HashMap<>();
+        drain(pendingTyping, (key, value) -> {
+            lastTyping.put(key, value);
+            membershipOf(key).ifPresent(membership -> typing.computeIfAbsent(key.roomCode(), code -> new ArrayList<>())
+                    .add(new EphemeralEventBatch.Typing(key.memberId(), membership.getMemberUserId(), membership.getMemberName(), value)));
+        });
+
+        Map<String, List<EphemeralEventBatch.ReadCursor>> readCursors = new HashMap<>();
+        drain(pendingReadCursors, (key, value) -> {
+            lastReadCursors.put(key, value);
+            membershipOf(key).ifPresent(membership -> readCursors.computeIfAbsent(key.roomCode(), code -> new ArrayList<>())
+                    .add(new EphemeralEventBatch.ReadCursor(key.memberId(), membership.getMemberUserId(), value)));
+        });
+
+        Set<String> rooms = new LinkedHashSet<>(typing.keySet());
+        rooms.addAll(readCursors.keySet());
+        for (String roomCode : rooms) {
+            try {
+                chatRoomBroadcaster.broadcast(roomCode, ChatBrokerMode.EPHEMERAL_CHANNEL, new EphemeralEventBatch(
+                        roomCode,
+                        typing.getOrDefault(roomCode, List.of()),
+                        readCursors.getOrDefault(roomCode, List.of())));
+            } catch (MessagingException | DataAccessException e) {
+                dropped.increment();
+                log.debug("휘발성 이벤트 전달 실패: roomCode={}", roomCode, e);
+            }
+        }
+    }
+
+    // 꺼내는 동안 들어온 이벤트는 다음 주기에 전달된다
+    private <T> void drain(Map<RoomMember, T> pending, BiConsumer<RoomMember, T> consumer) {
+        for (RoomMember key : pending.keySet()) {
+            T value = pending.remove(key);
+            if (value == null) {
+                continue;
+            }
+            consumer.accept(key, value);
+        }
+    }
+
+    private int pendingSize() {
+        return pendingTyping.size() + pendingReadCursors.size();
+    }
+}
@@ -0,0 +1,89 @@
+package setting.SettingServer.service.chat;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import setting.SettingServer.entity.chat.ChatRoomMemberStatus;
+import setting.SettingServer.repository.chat.ChatRoomMemberRepository;
+import setting.SettingServer.repository.chat.ChatRoomMembership;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 참여 여부 캐시
+ * 휘발성 이벤트, 읽음 처리처럼 자주 들어오는 요청마다 멤버 조회 쿼리를 실행하지 않도록 짧게 보관한다.
+ *
+ * - 참여하지 않은 경우도 캐시한다 (Optional.empty)
+ * - 채팅방 생성, 초대, 재참여, 나가기는 커밋 후 바로 제거하고, 그 밖의 변경(채팅방 비활성화)은 만료 시간 후 반영된다
+ * - 커밋 전에 제거하면 다른 요청이 커밋 전 상태를 다시 캐시할 수 있으므로 커밋 후에 제거한다
+ */
+@Component
+public class ChatMembershipCache {
+
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final Cache<Key, Optional<ChatRoomMembership>> cache;
+
+    public ChatMembershipCache(ChatRoomMemberRepository chatRoomMemberRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${chat.membership-cache.maximum-size:10000}") long maximumSize,
+                               @Value("${chat.membership-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "chat.membership");
+    }
+
+    private record Key(String roomCode, Long memberId) {
+    }
+
+    /**
+     * 활성 멤버 정보 조회 (참여하지 않았으면 empty)
+     */
+    public Optional<ChatRoomMembership> get(String roomCode, Long memberId) {
+        Key key = new Key(roomCode, memberId);
+        try {
+            return cache.get(key, () -> chatRoomMemberRepository.findMembership(
+                    roomCode, memberId, ChatRoomMemberStatus.ACTIVE));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof DataAccessException dataAccessException) {
+                throw dataAccessException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 참여 상태가 바뀐 멤버를 트랜잭션 커밋 후 제거 (트랜잭션 밖이면 바로 제거)
+     */
+    public void evictAfterCommit(String roomCode, Long memberId) {
+        evictAfterCommit(roomCode, List.of(memberId));
+    }
+
+    public void evictAfterCommit(String roomCode, Collection<Long> memberIds) {
+        List<Key> keys = memberIds.stream().map(memberId -> new Key(roomCode, memberId)).toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidateAll(keys);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidateAll(keys);
+            }
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package setting.SettingServer.service.chat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import setting.SettingServer.dto.chat.PendingChatMessage;
+
+/**
+ * 저장에 최종 실패한 채팅 메시지 보관소 (Redis 리스트)
+ * 원인을 확인한 뒤 다시 저장할 수 있도록 메시지 전체를 JSON 으로 남긴다.
+ * Redis 에도 남기지 못하면 로그에 메시지 전체를 남긴다.
+ */
+@Component
+@Slf4j
+public class ChatMessageDeadLetterStore {
+
+    private static final String DEAD_LETTER_KEY = "chat:message:dead-letter";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Counter deadLettered;
+
+    public ChatMessageDeadLetterStore(StringRedisTemplate stringRedisTemplate,
+                                      ObjectMapper objectMapper,
+                                      MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.deadLettered = meterRegistry.counter("chat.pipeline.dead_lettered");
+    }
+
+    public void add(PendingChatMessage message, Exception cause) {
+        deadLettered.increment();
+        log.error("채팅 메시지 저장 최종 실패: messageId={}, chatRoomId={}, error={}",
+                message.id(), message.chatRoomId(), cause.getMessage());
+        try {
+            stringRedisTemplate.opsForList().rightPush(DEAD_LETTER_KEY, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.error("채팅 메시지 dead-letter 보관 실패: message={}", message, e);
+        }
+    }
+}
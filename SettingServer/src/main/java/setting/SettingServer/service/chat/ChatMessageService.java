@@ -0,0 +1,115 @@
+package setting.SettingServer.service.chat;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import setting.SettingServer.common.exception.UnauthorizedException;
+import setting.SettingServer.common.id.Snowflake;
+import setting.SettingServer.dto.chat.ChatMessageDto;
+import setting.SettingServer.dto.chat.PendingChatMessage;
+import setting.SettingServer.entity.Member;
+import setting.SettingServer.entity.chat.ChatMessage;
+import setting.SettingServer.entity.chat.ChatRoomMemberStatus;
+import setting.SettingServer.entity.chat.MessageType;
+import setting.SettingServer.repository.chat.ChatMessageRepository;
+import setting.SettingServer.repository.chat.ChatRoomMemberRepository;
+import setting.SettingServer.repository.chat.ChatRoomMembership;
+import setting.SettingServer.repository.chat.ChatRoomRepository;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatMessageService {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomBroadcaster chatRoomBroadcaster;
+    private final Snowflake snowflake;
+    private final ChatMessageWriteBehindBuffer chatMessageWriteBehindBuffer;
+
+    /**
+     * 실시간 메시지 전송 (STOMP)
+     * Snowflake ID 를 바로 발급해 브로드캐스트하고, 저장은 write-behind 버퍼에 맡긴다
+     */
+    public ChatMessageDto sendMessage(String roomCode, Long memberId, String content) {
+        ChatRoomMembership membership = chatRoomMemberRepository.findMembership(roomCode, memberId, ChatRoomMemberStatus.ACTIVE)
+                .orElseThrow(() -> new UnauthorizedException("채팅방에 참여하지 않은 사용자입니다"));
+
+        PendingChatMessage message = new PendingChatMessage(
+                snowflake.nextId(),
+                membership.getChatRoomId(),
+                membership.getMemberId(),
+                membership.getMemberUserId(),
+                membership.getMemberName(),
+                content,
+                MessageType.CHAT,
+                LocalDateTime.now());
+
+        ChatMessageDto messageDto = new ChatMessageDto(
+                message.id(),
+                message.content(),
+                message.messageType().name(),
+                message.senderUserId(),
+                message.senderName(),
+                message.sentAt());
+
+        chatRoomBroadcaster.broadcast(roomCode, messageDto);
+        chatMessageWriteBehindBuffer.enqueue(message);
+
+        return messageDto;
+    }
+
+    /**
+     * 메시지 저장
+     * 저장과 함께 채팅방의 마지막 메시지와 발신자를 제외한 멤버들의 안 읽은 메시지 수를 갱신한다
+     */
+    @Transactional
+    public ChatMessage saveMessage(ChatMessage message) {
+        ChatMessage savedMessage = chatMessageRepository.save(message);
+
+        Member sender = savedMessage.getSender();
+        chatRoomRepository.updateLastMessage(
+                savedMessage.getChatRoom().getId(),
+                savedMessage.getId(),
+                savedMessage.getSentAt() != null ? savedMessage.getSentAt() : LocalDateTime.now(),
+                savedMessage.getPreview(),
+                sender != null ? sender.getUserId() : null,
+                sender != null ? sender.getName() : null);
+
+        if (savedMessage.getMessageType() != MessageType.SERVER && savedMessage.getSender() != null) {
+            chatRoomMemberRepository.incrementUnreadCount(
+                    savedMessage.getChatRoom(), savedMessage.getSender(), ChatRoomMemberStatus.ACTIVE);
+        }
+
+        return savedMessage;
+    }
+
+    /**
+     * 안 읽은 메시지 수 보정
+     * 증분 갱신 중 유실된 값(동시 읽음 처리 등)을 주기적으로 실제 메시지 기준으로 맞춘다
+     */
+    @Scheduled(fixedDelayString = "${chat.unread.reconcile-delay-ms:1800000}",
+            initialDelayString = "${chat.unread.reconcile-initial-delay-ms:60000}")
+    @Transactional
+    public void reconcileUnreadCounts() {
+        int backfilled = chatRoomRepository.backfillLastMessages();
+        if (backfilled > 0) {
+            log.info("채팅방 마지막 메시지 보정 완료: {} 건", backfilled);
+        }
+
+        int clamped = chatRoomMemberRepository.clampLastReadMessageIds();
+        if (clamped > 0) {
+            log.info("마지막 메시지를 넘은 읽음 위치 보정 완료: {} 건", clamped);
+        }
+
+        int updated = chatRoomMemberRepository.reconcileUnreadCounts();
+        if (updated > 0) {
+            log.info("안 읽은 메시지 수 보정 완료: {} 건", updated);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package setting.SettingServer.service.chat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import setting.SettingServer.dto.chat.PendingChatMessage;
+import setting.SettingServer.repository.chat.ChatMessageBatchRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 write-behind 버퍼
+ * 전송 경로는 브로드캐스트 후 메시지를 큐에 넣고 바로 반환하며,
+ * 전용 스레드가 큐를 비우면서 JDBC 배치로 저장한다.
+ *
+ * - 큐가 가득 차면 offer 대기 후에도 실패한 메시지를 호출 스레드에서 바로 저장한다 (유실 대신 지연)
+ * - 재시도 후에도 실패한 배치는 일부 행의 데이터 문제라면 반씩 나누어 저장하고, 끝까지 실패한 행만 dead-letter 로 보관한다
+ * - 종료 시 새 메시지는 바로 저장하고, 큐에 남은 메시지를 모두 저장한 뒤 멈춘다
+ */
+@Component
+@Slf4j
+public class ChatMessageWriteBehindBuffer implements SmartLifecycle {
+
+    private final ChatMessageBatchRepository chatMessageBatchRepository;
+    private final ChatMessageDeadLetterStore chatMessageDeadLetterStore;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingChatMessage> queue;
+
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final int maxRetries;
+    private final long drainTimeoutMs;
+
+    private final Counter enqueuedCounter;
+    private final Counter persistedCounter;
+    private final Counter overflowCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public ChatMessageWriteBehindBuffer(ChatMessageBatchRepository chatMessageBatchRepository,
+                                        ChatMessageDeadLetterStore chatMessageDeadLetterStore,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${chat.pipeline.capacity:10000}") int capacity,
+                                        @Value("${chat.pipeline.batch-size:500}") int batchSize,
+                                        @Value("${chat.pipeline.flush-interval-ms:50}") long flushIntervalMs,
+                                        @Value("${chat.pipeline.offer-timeout-ms:20}") long offerTimeoutMs,
+                                        @Value("${chat.pipeline.max-retries:3}") int maxRetries,
+                                        @Value("${chat.pipeline.drain-timeout-ms:30000}") long drainTimeoutMs) {
+        this.chatMessageBatchRepository = chatMessageBatchRepository;
+        this.chatMessageDeadLetterStore = chatMessageDeadLetterStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.maxRetries = maxRetries;
+        this.drainTimeoutMs = drainTimeoutMs;
+
+        Gauge.builder("chat.pipeline.queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 채팅 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.pipeline.queue.remaining", queue, BlockingQueue::remainingCapacity)
+                .register(meterRegistry);
+        this.enqueuedCounter = meterRegistry.counter("chat.pipeline.enqueued");
+        this.persistedCounter = meterRegistry.counter("chat.pipeline.persisted");
+        this.overflowCounter = meterRegistry.counter("chat.pipeline.overflow");
+        this.failedCounter = meterRegistry.counter("chat.pipeline.failed");
+        this.flushTimer = meterRegistry.timer("chat.pipeline.flush");
+    }
+
+    /**
+     * 저장 대기열에 추가 (대기열이 가득 차거나 종료 중이면 호출 스레드에서 바로 저장)
+     */
+    public void enqueue(PendingChatMessage message) {
+        if (running) {
+            try {
+                if (queue.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    enqueuedCounter.increment();
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            overflowCounter.increment();
+            log.warn("채팅 메시지 저장 대기열 포화, 직접 저장: messageId={}", message.id());
+        }
+
+        flush(List.of(message));
+    }
+
+    // ================= 저장 스레드 =================
+
+    private void drainLoop() {
+        List<PendingChatMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingChatMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        // 인터럽트로 빠져나온 경우에도 남은 메시지는 저장
+        while (!queue.isEmpty()) {
+            queue.drainTo(batch, batchSize);
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<PendingChatMessage> batch) {
+        Exception failure = null;
+        for (int attempt = 1; attempt <= maxRetries; attempt++) {
+            try {
+                save(batch);
+                return;
+            } catch (Exception e) {
+                failure = e;
+                log.warn("채팅 메시지 배치 저장 실패 ({}/{}): size={}, error={}", attempt, maxRetries, batch.size(), e.getMessage());
+                if (attempt < maxRetries) {
+                    sleepQuietly(100L * attempt);
+                }
+            }
+        }
+
+        if (batch.size() > 1 && isRowLevelFailure(failure)) {
+            saveSplitting(batch);
+        } else {
+            deadLetter(batch, failure);
+        }
+    }
+
+    // 반씩 나누어 저장하고 실패한 쪽만 다시 나눈다 (한 행의 제약 조건 위반으로 배치 전체를 잃지 않도록)
+    private void saveSplitting(List<PendingChatMessage> batch) {
+        int middle = batch.size() / 2;
+        for (List<PendingChatMessage> half : List.of(batch.subList(0, middle), batch.subList(middle, batch.size()))) {
+            try {
+                save(half);
+            } catch (Exception e) {
+                if (half.size() > 1 && isRowLevelFailure(e)) {
+                    saveSplitting(half);
+                } else {
+                    deadLetter(half, e);
+                }
+            }
+        }
+    }
+
+    private void save(List<PendingChatMessage> batch) {
+        flushTimer.record(() -> transactionTemplate.executeWithoutResult(
+                status -> chatMessageBatchRepository.saveAll(batch)));
+        persistedCounter.increment(batch.size());
+    }
+
+    // 특정 행의 데이터 문제일 때만 나누어 저장한다 (DB 장애는 나누어도 실패하므로 바로 보관)
+    private static boolean isRowLevelFailure(Exception e) {
+        return e instanceof NonTransientDataAccessException && !(e instanceof DataAccessResourceFailureException);
+    }
+
+    private void deadLetter(List<PendingChatMessage> messages, Exception cause) {
+        failedCounter.increment(messages.size());
+        messages.forEach(message -> chatMessageDeadLetterStore.add(message, cause));
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ================= 생명주기 =================
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::drainLoop, "chat-write-behind");
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        try {
+            worker.join(drainTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            log.error("채팅 메시지 저장 대기열 종료 시간 초과: 남은 메시지={}", queue.size());
+        }
+        worker = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // WebSocket 처리(SubProtocolWebSocketHandler)가 먼저 멈춘 뒤 대기열을 비운다
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 1000;
+    }
+}
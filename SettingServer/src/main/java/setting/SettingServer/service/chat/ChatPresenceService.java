@@ -0,0 +1,386 @@
+package setting.SettingServer.service.chat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import setting.SettingServer.config.redis.ChatBrokerMode;
+import setting.SettingServer.dto.chat.PresenceDiff;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 접속 상태(presence) 관리
+ * STOMP 세션을 회원(CONNECT 시 JWT 클레임으로 만든 Principal)과 채팅방 구독에 매핑하고,
+ * 변경은 모아 두었다가 주기적으로 Redis 에 반영하고 채팅방별 변경분(PresenceDiff)으로 한 번에 전달한다.
+ *
+ * - Redis 는 노드 단위 키를 사용한다: presence:node:{nodeId}:members, presence:node:{nodeId}:room:{roomCode}
+ * - 노드는 heartbeat 마다 자신의 키 만료 시간만 갱신한다 (세션 수가 아니라 노드의 채팅방 수에 비례)
+ * - 노드가 죽으면 키가 만료되어 자동으로 접속 목록에서 빠진다
+ * - 짧은 시간 안에 접속/해제가 반복되면 flush 시점의 상태만 반영된다
+ */
+@Service
+@Slf4j
+public class ChatPresenceService {
+
+    private static final String NODES_KEY = "presence:nodes";
+    private static final String NODE_KEY_PREFIX = "presence:node:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatRoomBroadcaster chatRoomBroadcaster;
+    private final ChatBrokerMode brokerMode;
+    private final Duration ttl;
+    private final Counter broadcastFailures;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 세션 ID -> 세션 정보 (회원 ID, 구독 ID -> 채팅방 코드)
+    private final Map<String, SessionPresence> sessions = new ConcurrentHashMap<>();
+    // 현재 노드 기준 회원별 세션 수, 채팅방/회원별 구독 수
+    private final Map<Long, Integer> memberSessionCounts = new ConcurrentHashMap<>();
+    private final Map<RoomMember, Integer> roomMemberCounts = new ConcurrentHashMap<>();
+
+    // 마지막 flush 이후 바뀐 항목
+    private final Set<Long> dirtyMembers = ConcurrentHashMap.newKeySet();
+    private final Set<RoomMember> dirtyRoomMembers = ConcurrentHashMap.newKeySet();
+
+    // Redis 에 반영된 상태 (flushLock 을 잡은 flush/heartbeat 에서만 접근)
+    private final Set<Long> flushedMembers = new HashSet<>();
+    private final Set<RoomMember> flushedRoomMembers = new HashSet<>();
+    // Redis I/O 중에 잡고 있으므로 synchronized 대신 사용 (가상 스레드 pinning 방지)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public ChatPresenceService(StringRedisTemplate stringRedisTemplate,
+                               ChatRoomBroadcaster chatRoomBroadcaster,
+                               MeterRegistry meterRegistry,
+                               @Value("${chat.broker.mode:simple}") ChatBrokerMode brokerMode,
+                               @Value("${chat.presence.ttl-seconds:60}") long ttlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.chatRoomBroadcaster = chatRoomBroadcaster;
+        this.brokerMode = brokerMode;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.broadcastFailures = meterRegistry.counter("chat.presence.broadcast_failures");
+    }
+
+    private record RoomMember(String roomCode, Long memberId) {
+    }
+
+    private record SessionPresence(Long memberId, Map<String, String> subscriptions) {
+    }
+
+    // ================= 세션 이벤트 =================
+
+    public void connect(String sessionId, Principal user) {
+        Long memberId = memberIdOf(user);
+        if (sessionId == null || memberId == null) {
+            return;
+        }
+
+        if (sessions.putIfAbsent(sessionId, new SessionPresence(memberId, new ConcurrentHashMap<>())) == null) {
+            memberSessionCounts.merge(memberId, 1, Integer::sum);
+            dirtyMembers.add(memberId);
+        }
+    }
+
+    public void subscribe(String sessionId, String subscriptionId, String destination) {
+        SessionPresence session = sessionId != null ? sessions.get(sessionId) : null;
+        String roomCode = brokerMode.roomCodeOf(destination);
+        if (session == null || subscriptionId == null || roomCode == null) {
+            return;
+        }
+
+        if (session.subscriptions().put(subscriptionId, roomCode) == null) {
+            RoomMember roomMember = new RoomMember(roomCode, session.memberId());
+            roomMemberCounts.merge(roomMember, 1, Integer::sum);
+            dirtyRoomMembers.add(roomMember);
+        }
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        SessionPresence session = sessionId != null ? sessions.get(sessionId) : null;
+        if (session == null || subscriptionId == null) {
+            return;
+        }
+
+        String roomCode = session.subscriptions().remove(subscriptionId);
+        if (roomCode != null) {
+            release(new RoomMember(roomCode, session.memberId()));
+        }
+    }
+
+    public void disconnect(String sessionId) {
+        SessionPresence session = sessionId != null ? sessions.remove(sessionId) : null;
+        if (session == null) {
+            return;
+        }
+
+        session.subscriptions().values()
+                .forEach(roomCode -> release(new RoomMember(roomCode, session.memberId())));
+        memberSessionCounts.computeIfPresent(session.memberId(), (id, count) -> count > 1 ? count - 1 : null);
+        dirtyMembers.add(session.memberId());
+    }
+
+    private void release(RoomMember roomMember) {
+        roomMemberCounts.computeIfPresent(roomMember, (key, count) -> count > 1 ? count - 1 : null);
+        dirtyRoomMembers.add(roomMember);
+    }
+
+    // ================= 조회 =================
+
+    /**
+     * 채팅방에 접속 중인 회원 ID (모든 노드 기준)
+     */
+    public Set<Long> getOnlineMembers(String roomCode) {
+        return unionAcrossNodes(nodeId -> roomKey(nodeId, roomCode));
+    }
+
+    public boolean isOnline(Long memberId) {
+        if (memberSessionCounts.containsKey(memberId)) {
+            return true;
+        }
+
+        String member = String.valueOf(memberId);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            liveNodes().forEach(node -> redis.sIsMember(membersKey(node), member));
+            return null;
+        });
+        return results.stream().anyMatch(Boolean.TRUE::equals);
+    }
+
+    // ================= Redis 반영 =================
+
+    /**
+     * 바뀐 상태를 Redis 에 반영하고 채팅방별 변경분 전달
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.flush-delay-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Long> joinedMembers = new ArrayList<>();
+            List<Long> leftMembers = new ArrayList<>();
+            drain(dirtyMembers, memberId -> memberSessionCounts.containsKey(memberId), flushedMembers, joinedMembers, leftMembers);
+
+            List<RoomMember> joined = new ArrayList<>();
+            List<RoomMember> left = new ArrayList<>();
+            drain(dirtyRoomMembers, roomMemberCounts::containsKey, flushedRoomMembers, joined, left);
+
+            if (joinedMembers.isEmpty() && leftMembers.isEmpty() && joined.isEmpty() && left.isEmpty()) {
+                return;
+            }
+
+            List<RoomMember> offline;
+            try {
+                writeChanges(joinedMembers, leftMembers, joined, left);
+                offline = presentOnOtherNodes(left);
+            } catch (DataAccessException e) {
+                // 반영하지 못한 항목은 다음 주기에 다시 반영
+                joinedMembers.forEach(flushedMembers::remove);
+                leftMembers.forEach(flushedMembers::add);
+                joined.forEach(flushedRoomMembers::remove);
+                left.forEach(flushedRoomMembers::add);
+                dirtyMembers.addAll(joinedMembers);
+                dirtyMembers.addAll(leftMembers);
+                dirtyRoomMembers.addAll(joined);
+                dirtyRoomMembers.addAll(left);
+                log.warn("접속 상태 반영 실패, 다음 주기에 재시도", e);
+                return;
+            }
+
+            // 상태 반영이 끝난 뒤 전달 (전달 실패로 반영된 상태를 되돌리지 않는다)
+            publishDiffs(joined, offline);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private <T> void drain(Set<T> dirty, Predicate<T> present, Set<T> flushed,
+                           List<T> joined, List<T> left) {
+        Iterator<T> iterator = dirty.iterator();
+        while (iterator.hasNext()) {
+            T item = iterator.next();
+            iterator.remove();
+
+            boolean isPresent = present.test(item);
+            if (isPresent && flushed.add(item)) {
+                joined.add(item);
+            } else if (!isPresent && flushed.remove(item)) {
+                left.add(item);
+            }
+        }
+    }
+
+    private void writeChanges(List<Long> joinedMembers, List<Long> leftMembers, List<RoomMember> joined, List<RoomMember> left) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            String membersKey = membersKey(nodeId);
+            joinedMembers.forEach(memberId -> redis.sAdd(membersKey, String.valueOf(memberId)));
+            leftMembers.forEach(memberId -> redis.sRem(membersKey, String.valueOf(memberId)));
+            redis.expire(membersKey, ttl.toSeconds());
+
+            Set<String> touchedRooms = new HashSet<>();
+            joined.forEach(roomMember -> {
+                redis.sAdd(roomKey(nodeId, roomMember.roomCode()), String.valueOf(roomMember.memberId()));
+                touchedRooms.add(roomMember.roomCode());
+            });
+            left.forEach(roomMember ->
+                    redis.sRem(roomKey(nodeId, roomMember.roomCode()), String.valueOf(roomMember.memberId())));
+            touchedRooms.forEach(roomCode -> redis.expire(roomKey(nodeId, roomCode), ttl.toSeconds()));
+            redis.zAdd(NODES_KEY, System.currentTimeMillis(), nodeId);
+            return null;
+        });
+    }
+
+    // 다른 노드에서 아직 같은 채팅방에 접속 중이면 퇴장으로 알리지 않는다
+    private List<RoomMember> presentOnOtherNodes(List<RoomMember> left) {
+        List<String> otherNodes = liveNodes().stream().filter(node -> !node.equals(nodeId)).toList();
+        if (left.isEmpty() || otherNodes.isEmpty()) {
+            return left;
+        }
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            left.forEach(roomMember -> otherNodes.forEach(node ->
+                    redis.sIsMember(roomKey(node, roomMember.roomCode()), String.valueOf(roomMember.memberId()))));
+            return null;
+        });
+
+        List<RoomMember> offline = new ArrayList<>();
+        for (int i = 0; i < left.size(); i++) {
+            List<Object> memberResults = results.subList(i * otherNodes.size(), (i + 1) * otherNodes.size());
+            if (memberResults.stream().noneMatch(Boolean.TRUE::equals)) {
+                offline.add(left.get(i));
+            }
+        }
+        return offline;
+    }
+
+    private void publishDiffs(List<RoomMember> joined, List<RoomMember> left) {
+        Map<String, List<Long>> online = new HashMap<>();
+        Map<String, List<Long>> offline = new HashMap<>();
+        joined.forEach(roomMember -> online.computeIfAbsent(roomMember.roomCode(), code -> new ArrayList<>()).add(roomMember.memberId()));
+        left.forEach(roomMember -> offline.computeIfAbsent(roomMember.roomCode(), code -> new ArrayList<>()).add(roomMember.memberId()));
+
+        Set<String> rooms = new LinkedHashSet<>(online.keySet());
+        rooms.addAll(offline.keySet());
+        for (String roomCode : rooms) {
+            try {
+                chatRoomBroadcaster.broadcast(roomCode, ChatBrokerMode.PRESENCE_CHANNEL, new PresenceDiff(
+                        roomCode,
+                        online.getOrDefault(roomCode, List.of()),
+                        offline.getOrDefault(roomCode, List.of())));
+            } catch (RuntimeException e) {
+                // 변경분은 다시 보내지 않는다 (클라이언트는 접속 목록 조회로 맞춘다)
+                broadcastFailures.increment();
+                log.warn("접속 상태 변경분 전달 실패: roomCode={}", roomCode, e);
+            }
+        }
+    }
+
+    /**
+     * 노드 heartbeat: 노드 키들의 만료 시간 갱신과 죽은 노드 정리
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.heartbeat-delay-ms:20000}")
+    public void heartbeat() {
+        flushLock.lock();
+        try {
+            Set<String> rooms = new HashSet<>();
+            flushedRoomMembers.forEach(roomMember -> rooms.add(roomMember.roomCode()));
+            long now = System.currentTimeMillis();
+
+            try {
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection redis = (StringRedisConnection) connection;
+                    redis.zAdd(NODES_KEY, now, nodeId);
+                    redis.zRemRangeByScore(NODES_KEY, Double.NEGATIVE_INFINITY, now - ttl.toMillis());
+                    redis.expire(membersKey(nodeId), ttl.toSeconds());
+                    rooms.forEach(roomCode -> redis.expire(roomKey(nodeId, roomCode), ttl.toSeconds()));
+                    return null;
+                });
+            } catch (DataAccessException e) {
+                log.warn("접속 상태 heartbeat 실패", e);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushLock.lock();
+        try {
+            Set<String> keys = new HashSet<>();
+            keys.add(membersKey(nodeId));
+            flushedRoomMembers.forEach(roomMember -> keys.add(roomKey(nodeId, roomMember.roomCode())));
+            try {
+                stringRedisTemplate.delete(keys);
+                stringRedisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+            } catch (DataAccessException e) {
+                log.warn("접속 상태 정리 실패 (키는 만료 시간 후 삭제됨)", e);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // ================= 공통 헬퍼 메서드 =================
+
+    private List<String> liveNodes() {
+        long now = System.currentTimeMillis();
+        Set<String> nodes = stringRedisTemplate.opsForZSet().rangeByScore(NODES_KEY, now - ttl.toMillis(), Double.POSITIVE_INFINITY);
+        return nodes != null ? new ArrayList<>(nodes) : List.of();
+    }
+
+    private Set<Long> unionAcrossNodes(Function<String, String> keyOfNode) {
+        List<String> keys = liveNodes().stream().map(keyOfNode).toList();
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> members = stringRedisTemplate.opsForSet().union(keys);
+        Set<Long> memberIds = new HashSet<>();
+        if (members != null) {
+            members.forEach(member -> memberIds.add(Long.valueOf(member)));
+        }
+        return memberIds;
+    }
+
+    private Long memberIdOf(Principal user) {
+        if (user == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(user.getName());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String membersKey(String nodeId) {
+        return NODE_KEY_PREFIX + nodeId + ":members";
+    }
+
+    private static String roomKey(String nodeId, String roomCode) {
+        return NODE_KEY_PREFIX + nodeId + ":room:" + roomCode;
+    }
+}
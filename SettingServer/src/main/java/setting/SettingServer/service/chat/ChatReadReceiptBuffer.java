@@ -0,0 +1,86 @@
+package setting.SettingServer.service.chat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import setting.SettingServer.repository.chat.ChatReadReceiptRepository;
+import setting.SettingServer.repository.chat.ChatReadReceiptRepository.ReadReceipt;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽음 위치 버퍼
+ * 읽음 처리마다 트랜잭션을 열지 않고 (채팅방, 회원) 별로 가장 큰 메시지 ID 만 메모리에 모았다가,
+ * 주기적으로 한 번의 배치 UPDATE 로 chat_room_member 에 반영한다.
+ *
+ * - 같은 회원의 읽음 위치는 flush 전까지 최댓값으로 합쳐진다 (스크롤 중 여러 번 보내도 한 번만 반영)
+ * - 반영 실패 시 읽음 위치를 버퍼에 되돌려 다음 주기에 다시 반영한다
+ */
+@Component
+@Slf4j
+public class ChatReadReceiptBuffer {
+
+    private final ConcurrentHashMap<RoomMember, Long> pending = new ConcurrentHashMap<>();
+    private final ChatReadReceiptRepository chatReadReceiptRepository;
+    private final Counter recorded;
+    private final Counter flushed;
+
+    public ChatReadReceiptBuffer(ChatReadReceiptRepository chatReadReceiptRepository,
+                                 MeterRegistry meterRegistry) {
+        this.chatReadReceiptRepository = chatReadReceiptRepository;
+
+        Gauge.builder("chat.read_receipt.pending", pending, Map::size)
+                .description("반영 대기 중인 읽음 위치 수")
+                .register(meterRegistry);
+        this.recorded = meterRegistry.counter("chat.read_receipt.recorded");
+        this.flushed = meterRegistry.counter("chat.read_receipt.flushed");
+    }
+
+    private record RoomMember(Long chatRoomId, Long memberId) {
+    }
+
+    public void record(Long chatRoomId, Long memberId, Long messageId) {
+        pending.merge(new RoomMember(chatRoomId, memberId), messageId, Math::max);
+        recorded.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read-receipt.flush-delay-ms:1000}")
+    public void flush() {
+        List<ReadReceipt> receipts = new ArrayList<>();
+        for (RoomMember key : pending.keySet()) {
+            // 꺼내는 동안 들어온 읽음 위치는 다음 주기에 반영된다
+            Long messageId = pending.remove(key);
+            if (messageId != null) {
+                receipts.add(new ReadReceipt(key.chatRoomId(), key.memberId(), messageId));
+            }
+        }
+
+        if (receipts.isEmpty()) {
+            return;
+        }
+
+        receipts.sort(Comparator.comparing(ReadReceipt::chatRoomId).thenComparing(ReadReceipt::memberId));
+        try {
+            chatReadReceiptRepository.updateLastReadMessageIds(receipts);
+            flushed.increment(receipts.size());
+        } catch (DataAccessException e) {
+            log.warn("읽음 위치 반영 실패, 다음 주기에 재시도: {} 건", receipts.size(), e);
+            receipts.forEach(receipt -> pending.merge(
+                    new RoomMember(receipt.chatRoomId(), receipt.memberId()), receipt.messageId(), Math::max));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,20 @@
+package setting.SettingServer.service.chat;
+
+/**
+ * 채팅방 구독자에게 메시지 전달
+ * 구현체는 브로커 모드(chat.broker.mode)에 따라 ChatBrokerConfig 에서 선택된다
+ */
+public interface ChatRoomBroadcaster {
+
+    /**
+     * 채팅방 기본 채널로 전달
+     */
+    default void broadcast(String roomCode, Object payload) {
+        broadcast(roomCode, null, payload);
+    }
+
+    /**
+     * 채팅방의 하위 채널(typing, presence 등)로 전달
+     */
+    void broadcast(String roomCode, String channel, Object payload);
+}
@@ -3,6 +3,7 @@ package setting.SettingServer.service.chat;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -10,29 +11,41 @@ import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import setting.SettingServer.common.exception.UnauthorizedException;
-import setting.SettingServer.config.SecurityUtil;
+import setting.SettingServer.config.CurrentMember;
 import setting.SettingServer.dto.chat.*;
 import setting.SettingServer.entity.Member;
 import setting.SettingServer.entity.chat.*;
 import setting.SettingServer.repository.MemberRepository;
 import setting.SettingServer.repository.chat.ChatMessageRepository;
 import setting.SettingServer.repository.chat.ChatRoomMemberRepository;
+import setting.SettingServer.repository.chat.ChatRoomMembership;
 import setting.SettingServer.repository.chat.ChatRoomRepository;
+import setting.SettingServer.repository.chat.ChatRoomSummary;
+import setting.SettingServer.repository.chat.RoomUnreadCount;
 
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ChatRoomService {
 
+    private static final int RECENT_MESSAGE_SIZE = 20;
+    private static final int MAX_MESSAGE_LIMIT = 100;
+
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final ChatMessageService chatMessageService;
+    private final ChatRoomBroadcaster chatRoomBroadcaster;
+    private final ChatPresenceService chatPresenceService;
+    private final ChatEphemeralService chatEphemeralService;
+    private final ChatMembershipCache chatMembershipCache;
     private final MemberRepository memberRepository;
-    private final SecurityUtil securityUtil;
+    private final CurrentMember currentMember;
 
 
     // ================= 비즈니스 메서드 (개선된 버전) =================
@@ -62,6 +75,7 @@ public class ChatRoomService {
         // 채팅방 생성
         ChatRoom chatRoom = ChatRoom.createDirectChat(user1, user2);
         chatRoomRepository.save(chatRoom);
+        chatMembershipCache.evictAfterCommit(chatRoom.getRoomCode(), List.of(userId1, userId2));
 
         log.info("1:1 채팅방 생성 완료: {}", chatRoom.getRoomCode());
         return mapToChatRoomDto(chatRoom, currentUserId);
@@ -88,6 +102,7 @@ public class ChatRoomService {
 
         ChatRoom chatRoom = ChatRoom.createGroupChat(members, creator, name);
         chatRoomRepository.save(chatRoom);
+        chatMembershipCache.evictAfterCommit(chatRoom.getRoomCode(), Stream.concat(Stream.of(creatorId), memberIds.stream()).toList());
 
         log.info("그룹 채팅방 생성 완료: {}", chatRoom.getRoomCode());
         return mapToChatRoomDto(chatRoom, creatorId);
@@ -108,12 +123,10 @@ public class ChatRoomService {
 
         ChatRoomDetailDto detailDto = mapToChatRoomDetailDto(chatRoom, userId);
 
-        Page<ChatMessage> recentMessagePage = chatMessageRepository.findByChatRoomOrderBySentAtDesc(chatRoom, PageRequest.of(0, 20));
-
-        List<ChatMessage> recentMessages = recentMessagePage.getContent();
+        List<ChatMessage> recentMessages = chatMessageRepository.findByChatRoomOrderByIdDesc(chatRoom, Limit.of(RECENT_MESSAGE_SIZE));
 
         List<ChatMessageDto> messageDtos = recentMessages.stream()
-                .sorted(Comparator.comparing(ChatMessage::getCreatedAt))
+                .sorted(Comparator.comparing(ChatMessage::getId))
                 .map(this::mapToChatMessageDto)
                 .collect(Collectors.toList());
 
@@ -136,30 +149,31 @@ public class ChatRoomService {
 
     /**
      * 사용자의 채팅방 목록 조회
+     * 목록 + 전체 건수 두 번의 쿼리로 처리한다
      */
     @Transactional(readOnly = true)
     public ChatRoomListDto getChatRoomList(Long userId, int page, int size) {
-        log.debug("채팅방 목록 조회: userId={}, page={], size={]", userId, page, size);
+        log.debug("채팅방 목록 조회: userId={}, page={}, size={}", userId, page, size);
 
         validateCurrentUser(userId);
-        Member member = getMemberById(userId);
 
-        PageRequest pageRequest = PageRequest.of(page - 1, size, Sort.by("createdAt").descending());
+        Page<ChatRoomSummary> summaries = chatRoomMemberRepository.findChatRoomSummaries(
+                userId, ChatRoomMemberStatus.ACTIVE, PageRequest.of(page - 1, size));
 
-        Page<ChatRoomMember> chatRoomMembers = chatRoomMemberRepository.findByMemberAndStatusOrderByLastMessageTimestampDesc(
-                member, ChatRoomMemberStatus.ACTIVE, pageRequest);
-
-        List<ChatRoomDto> chatRoomDtos = chatRoomMembers.stream()
-                .map(crm -> mapToChatRoomDto(crm.getChatRoom(), userId))
+        List<ChatRoomDto> chatRoomDtos = summaries.stream()
+                .map(this::mapToChatRoomDto)
                 .collect(Collectors.toList());
 
-        Map<String, Long> unreadCounts = getUnreadMessageCounts(userId);
+        Map<String, Long> unreadCounts = new HashMap<>();
+        for (ChatRoomSummary summary : summaries) {
+            unreadCounts.put(summary.getRoomCode(), summary.getUnreadCount());
+        }
 
         return new ChatRoomListDto(
                 chatRoomDtos,
                 page,
-                chatRoomMembers.getTotalPages(),
-                chatRoomMembers.getTotalElements(),
+                summaries.getTotalPages(),
+                summaries.getTotalElements(),
                 unreadCounts
         );
     }
@@ -196,6 +210,39 @@ public class ChatRoomService {
         );
     }
 
+    /**
+     * 채팅방 메시지 커서 조회
+     * before 메시지 ID 보다 이전 메시지를 limit 개 조회한다 (before 가 없으면 최신 메시지부터)
+     * (chat_room_id, id) 키셋 조회라 스크롤 깊이와 상관없이 COUNT/OFFSET 없이 처리된다
+     */
+    @Transactional(readOnly = true)
+    public ChatMessageSliceDto getChatMessagesBefore(String roomCode, Long userId, Long before, int limit) {
+        log.debug("채팅 메시지 커서 조회: roomCode={}, userId={}, before={}, limit={}", roomCode, userId, before, limit);
+
+        validateCurrentUser(userId);
+
+        ChatRoom chatRoom = getChatRoomAndValidateMember(roomCode, userId).getFirst();
+
+        int pageSize = Math.min(Math.max(limit, 1), MAX_MESSAGE_LIMIT);
+        // 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 한 건 더 조회
+        Limit fetchLimit = Limit.of(pageSize + 1);
+
+        List<ChatMessage> messages = before == null
+                ? chatMessageRepository.findByChatRoomOrderByIdDesc(chatRoom, fetchLimit)
+                : chatMessageRepository.findByChatRoomAndIdLessThanOrderByIdDesc(chatRoom, before, fetchLimit);
+
+        boolean hasNext = messages.size() > pageSize;
+        List<ChatMessage> pageMessages = hasNext ? messages.subList(0, pageSize) : messages;
+        Long nextCursor = hasNext ? pageMessages.get(pageMessages.size() - 1).getId() : null;
+
+        List<ChatMessageDto> messageDtos = pageMessages.stream()
+                .sorted(Comparator.comparing(ChatMessage::getId))
+                .map(this::mapToChatMessageDto)
+                .collect(Collectors.toList());
+
+        return new ChatMessageSliceDto(messageDtos, nextCursor, hasNext);
+    }
+
     /**
      * 채팅방에 멤버 초대
      */
@@ -231,6 +278,7 @@ public class ChatRoomService {
                 ChatRoomMember member = existingMember.get();
                 member.rejoin();
                 chatRoomMemberRepository.save(member);
+                chatMembershipCache.evictAfterCommit(roomCode, inviteeId);
 
                 // 시스템 메시지 추가
                 createSystemMessage(chatRoom, invitee.getName() + "님이 채팅방에 참여했습니다.");
@@ -241,6 +289,7 @@ public class ChatRoomService {
 
         chatRoom.addMember(invitee, ChatRoomMemberRole.MEMBER);
         chatRoomRepository.save(chatRoom);
+        chatMembershipCache.evictAfterCommit(roomCode, inviteeId);
 
         createSystemMessage(chatRoom, invitee.getName() + "님이 채팅방에 참여했습니다");
         return true;
@@ -254,7 +303,8 @@ public class ChatRoomService {
                 .messageType(MessageType.SERVER)
                 .build();
 
-        chatMessageRepository.save(systemMessage);
+        ChatMessage savedMessage = chatMessageService.saveMessage(systemMessage);
+        chatRoomBroadcaster.broadcast(chatRoom.getRoomCode(), mapToChatMessageDto(savedMessage));
     }
 
     /**
@@ -280,6 +330,7 @@ public class ChatRoomService {
 
         chatRoomMember.leave();
         chatRoomMemberRepository.save(chatRoomMember);
+        chatMembershipCache.evictAfterCommit(roomCode, userId);
 
         createSystemMessage(chatRoom, member.getName() + "님이 채팅방을 나갔습니다");
 
@@ -381,66 +432,51 @@ public class ChatRoomService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 채팅방에 접속 중인 멤버 ID 목록 조회 (입장 시 초기 상태, 이후 변경은 presence 채널로 전달)
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> getOnlineMembers(String roomCode, Long userId) {
+        validateCurrentUser(userId);
+        getChatRoomAndValidateMember(roomCode, userId);
+
+        return chatPresenceService.getOnlineMembers(roomCode);
+    }
+
     /**
      * 메시지 읽음 처리
+     * 읽음 위치는 ChatReadReceiptBuffer 에 모아 주기적으로 반영하고 (안 읽은 메시지 수도 그때 갱신),
+     * 다른 멤버에게는 휘발성 이벤트로 전달한다
+     * @param roomCode 채팅방 코드
+     * @param userId 읽은 회원 ID
+     * @param messageId 이 메시지까지 읽음
      */
-    @Transactional
     public boolean markMessageAsRead(String roomCode, Long userId, Long messageId) {
         log.debug("메시지 읽음 처리: roomCode={}, userId={}, messageId={}", roomCode, userId, messageId);
 
         validateCurrentUser(userId);
 
-        Pair<ChatRoom, ChatRoomMember> result = getChatRoomAndValidateMember(roomCode, userId);
-        ChatRoom chatRoom = result.getFirst();
-        ChatRoomMember chatRoomMember = result.getSecond();
-
-
-        // 메시지 조회
-        ChatMessage message = chatMessageRepository.findById(messageId)
-                .orElseThrow(() -> new EntityNotFoundException("메시지를 찾을 수 없습니다: " + messageId));
-
-        // 메시지가 해당 채팅방의 것인지 확인
-        if (!message.getChatRoom().equals(chatRoom)) {
-            throw new IllegalArgumentException("메시지가 해당 채팅방의 것이 아닙니다");
+        if (!chatEphemeralService.readCursor(roomCode, userId, messageId)) {
+            throw new UnauthorizedException("채팅방에 참여하지 않은 사용자입니다");
         }
-
-        // 메시지 읽음 처리
-        chatRoomMember.updateLastReadMessageId(messageId);
-        chatRoomMemberRepository.save(chatRoomMember);
-
         return true;
     }
 
-    @Transactional
     public boolean markAllMessagesAsRead(String roomCode, Long userId) {
         log.debug("채팅방 전체 메시지 읽음 처리: roomCode={}, userId={}", roomCode, userId);
 
         validateCurrentUser(userId);
 
-        Pair<ChatRoom, ChatRoomMember> result = getChatRoomAndValidateMember(roomCode, userId);
-        ChatRoom chatRoom = result.getFirst();
-        ChatRoomMember chatRoomMember = result.getSecond();
-
-        List<ChatMessage> recentMessages = chatMessageRepository.findByChatRoomOrderBySentAtDesc(chatRoom, PageRequest.of(0, 1)).getContent();
+        ChatRoomMembership membership = chatMembershipCache.get(roomCode, userId)
+                .orElseThrow(() -> new UnauthorizedException("채팅방에 참여하지 않은 사용자입니다"));
 
-        if (recentMessages.isEmpty()) {
-            log.debug("채팅방에 메시지가 없습니다: roomCode={]", roomCode);
+        Optional<Long> latestMessageId = chatRoomRepository.findLastMessageIdById(membership.getChatRoomId());
+        if (latestMessageId.isEmpty()) {
+            log.debug("채팅방에 메시지가 없습니다: roomCode={}", roomCode);
             return true;
         }
 
-        ChatMessage latestMessages = recentMessages.get(0);
-        Long latestMessageId = latestMessages.getId();
-
-        if (chatRoomMember.getLastReadMessageId() != null && chatRoomMember.getLastReadMessageId() >= latestMessageId) {
-            log.debug("이미 최신 메시지까지 읽었습니다: roomCode={}, userId={}", roomCode, userId);
-
-            return true;
-        }
-
-        chatRoomMember.updateLastReadMessageId(latestMessageId);
-        chatRoomMemberRepository.save(chatRoomMember);
-
-        log.info("채팅방 전체 메시지 읽음 처리 완료: roomCode={}, userId={}", roomCode, userId);
+        chatEphemeralService.readCursor(roomCode, userId, latestMessageId.get());
         return true;
     }
 
@@ -449,38 +485,20 @@ public class ChatRoomService {
      */
     @Transactional(readOnly = true)
     public Map<String, Long> getUnreadMessageCounts(Long userId) {
-        log.debug("안 읽은 메시지 수 조화: userId={]", userId);
+        log.debug("안 읽은 메시지 수 조회: userId={}", userId);
 
         validateCurrentUser(userId);
-        Member member = getMemberById(userId);
 
-        List<ChatRoomMember> chatRoomMembers = chatRoomMemberRepository.findByMemberAndStatus(
-                member, ChatRoomMemberStatus.ACTIVE);
+        List<RoomUnreadCount> roomUnreadCounts = chatRoomMemberRepository.findUnreadCountsByMemberId(
+                userId, ChatRoomMemberStatus.ACTIVE);
 
         Map<String, Long> unreadCounts = new HashMap<>();
-
-        for (ChatRoomMember chatRoomMember : chatRoomMembers) {
-            String roomCode = chatRoomMember.getChatRoom().getRoomCode();
-            unreadCounts.put(roomCode, getUnreadCount(chatRoomMember));
+        for (RoomUnreadCount roomUnreadCount : roomUnreadCounts) {
+            unreadCounts.put(roomUnreadCount.getRoomCode(), roomUnreadCount.getUnreadCount());
         }
         return unreadCounts;
     }
 
-    /**
-     * 특정 채팅방의 안 읽은 메시지 수 계산
-     * @return
-     */
-    private Long getUnreadCount(ChatRoomMember chatRoomMember) {
-        Long lastReadMessageId = chatRoomMember.getLastReadMessageId();
-        ChatRoom chatRoom = chatRoomMember.getChatRoom();
-
-        if (lastReadMessageId == null) {
-            return chatMessageRepository.countByChatRoomAndMessageTypeNot(chatRoom, MessageType.SERVER);
-        } else {
-            return chatMessageRepository.countByChatRoomAndIdGreaterThanAndMessageTypeNot(chatRoom, lastReadMessageId, MessageType.SERVER);
-        }
-    }
-
     // ================= 매핑 메서드 =================
 
 
@@ -534,33 +552,29 @@ public class ChatRoomService {
 
         String displayName = chatRoom.getDisplayNameForMember(currentMember);
 
-        ChatMessage latestMessage = chatMessageRepository.findTopByChatRoomOrderBySentAtDesc(chatRoom).orElse(null);
-
-        String latestMessageContent = null;
-        LocalDateTime latestMessageTime = null;
-        String latestMessageSenderId = null;
-        String latestMessageSenderName = null;
-
-        if (latestMessage != null) {
-            latestMessageContent = latestMessage.getContent();
-            latestMessageSenderName = latestMessage.getSender().getName();
-
-            if (latestMessage.getSender() != null) {
-                latestMessageSenderId = latestMessage.getSender().getUserId().toString();
-                latestMessageSenderName = latestMessage.getSender().getName();
-            }
-        }
-
+        // 마지막 메시지는 채팅방에 비정규화된 값을 사용
         long memberCount = chatRoomMemberRepository.countByChatRoomAndStatus(chatRoom, ChatRoomMemberStatus.ACTIVE);
 
         return new ChatRoomDto(chatRoom.getRoomCode(),
                 displayName,
                 chatRoom.getRoomType().name(),
                 (int) memberCount,
-                latestMessageContent,
-                latestMessageTime,
-                latestMessageSenderId,
-                latestMessageSenderName
+                chatRoom.getLastMessagePreview(),
+                chatRoom.getLastMessageAt(),
+                chatRoom.getLastMessageSenderUserId(),
+                chatRoom.getLastMessageSenderName()
+        );
+    }
+
+    private ChatRoomDto mapToChatRoomDto(ChatRoomSummary summary) {
+        return new ChatRoomDto(summary.getRoomCode(),
+                summary.getDisplayName(),
+                summary.getRoomType().name(),
+                (int) summary.getMemberCount(),
+                summary.getLastMessageContent(),
+                summary.getLastMessageSentAt(),
+                summary.getLastMessageSenderUserId(),
+                summary.getLastMessageSenderName()
         );
     }
 
@@ -584,10 +598,10 @@ public class ChatRoomService {
     // ================= 공통 헬퍼 메서드 =================
 
     /**
-     * 현재 로그인한 사용자의 ID를 Long 타입으로 반환
+     * 현재 로그인한 사용자의 ID 반환
      */
     private Long getCurrentUserId() {
-        return Long.parseLong(securityUtil.getCurrentMemberUsername());
+        return currentMember.getId();
     }
 
     /**
@@ -609,9 +623,12 @@ public class ChatRoomService {
     }
 
     /**
-     * 사용자 ID로 Member 조회
+     * 사용자 ID로 Member 조회 (현재 사용자는 요청당 한 번만 조회)
      */
     private Member getMemberById(Long userId) {
+        if (currentMember.is(userId)) {
+            return currentMember.getMember();
+        }
         return memberRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다"));
     }
@@ -0,0 +1,21 @@
+package setting.SettingServer.service.chat;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import setting.SettingServer.config.redis.ChatBrokerMode;
+
+/**
+ * 현재 노드의 브로커로 바로 전달
+ * SIMPLE 모드는 단일 노드, RELAY 모드는 외부 브로커가 노드 간 전달을 담당한다
+ */
+@RequiredArgsConstructor
+public class LocalChatRoomBroadcaster implements ChatRoomBroadcaster {
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ChatBrokerMode brokerMode;
+
+    @Override
+    public void broadcast(String roomCode, String channel, Object payload) {
+        messagingTemplate.convertAndSend(brokerMode.roomDestination(roomCode, channel), payload);
+    }
+}
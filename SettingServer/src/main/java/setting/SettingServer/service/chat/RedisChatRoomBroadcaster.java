@@ -0,0 +1,19 @@
+package setting.SettingServer.service.chat;
+
+import lombok.RequiredArgsConstructor;
+import setting.SettingServer.service.redis.RedisPubSubService;
+
+/**
+ * Redis pub/sub 을 통해 모든 노드로 전달
+ * 각 노드의 RedisSubscriberService 가 수신하여 자신의 메모리 브로커로 전달한다
+ */
+@RequiredArgsConstructor
+public class RedisChatRoomBroadcaster implements ChatRoomBroadcaster {
+
+    private final RedisPubSubService redisPubSubService;
+
+    @Override
+    public void broadcast(String roomCode, String channel, Object payload) {
+        redisPubSubService.publish(roomCode, channel, payload);
+    }
+}
@@ -1,20 +1,45 @@
 package setting.SettingServer.service.redis;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
-import setting.SettingServer.dto.MemberProfileResponse;
-import setting.SettingServer.entity.chat.ChatMessage;
+import setting.SettingServer.dto.chat.ChatBroadcastMessage;
+
+import java.io.IOException;
 
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class RedisPubSubService {
 
-    private final RedisTemplate<String, MemberProfileResponse> redisTemplate;
+    private static final String CHAT_ROOM_CHANNEL_PREFIX = "chat:room:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public RedisPubSubService(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+    }
 
+    public void publish(String roomCode, String channel, Object payload) {
+        ChatBroadcastMessage message = new ChatBroadcastMessage(roomCode, channel, objectMapper.valueToTree(payload));
+        try {
+            stringRedisTemplate.convertAndSend(roomChannel(roomCode), objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            log.error("채팅방 브로드캐스트 직렬화 실패: roomCode={}", roomCode, e);
+        }
+    }
+
+    /**
+     * 채팅방별 Redis 채널 (해당 채팅방 구독자가 있는 노드만 구독한다)
+     */
+    public static String roomChannel(String roomCode) {
+        return CHAT_ROOM_CHANNEL_PREFIX + roomCode;
+    }
 
-    public void publish(ChannelTopic topic, ChatMessage message) {
-        redisTemplate.convertAndSend(topic.getTopic(), message);
+    public ChatBroadcastMessage read(byte[] body) throws IOException {
+        return objectMapper.readValue(body, ChatBroadcastMessage.class);
     }
 }
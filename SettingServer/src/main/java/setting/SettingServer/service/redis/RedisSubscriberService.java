@@ -1,32 +1,143 @@
 package setting.SettingServer.service.redis;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.Striped;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Service;
-import setting.SettingServer.entity.chat.ChatMessage;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+import setting.SettingServer.config.redis.ChatBrokerMode;
+import setting.SettingServer.dto.chat.ChatBroadcastMessage;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Redis 브로커 모드에서 다른 노드가 발행한 채팅방 메시지를 현재 노드의 구독자에게 전달
+ * 채팅방 채널은 현재 노드에 해당 채팅방 구독자가 있는 동안에만 구독한다
+ *
+ * - 구독 수 변경은 ConcurrentHashMap.compute 안에서, Redis 채널 구독/해제는 그 밖에서 한다
+ *   (compute 중에는 같은 해시 구간의 다른 채팅방까지 막히므로 네트워크 I/O 를 하지 않는다)
+ * - 채널 구독 상태는 채팅방별 잠금 안에서 현재 구독 수에 맞춘다.
+ *   구독 수 변경과 채널 구독 순서가 엇갈려도 마지막으로 맞춘 결과가 최종 구독 수를 따른다
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
 public class RedisSubscriberService implements MessageListener {
 
-    private final ObjectMapper objectMapper;
-    private final RedisTemplate redisTemplate;
+    private final RedisPubSubService redisPubSubService;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
     private final SimpMessageSendingOperations messagingTemplate;
 
+    @Value("${chat.broker.mode:simple}")
+    private ChatBrokerMode brokerMode;
+
+    // 세션 ID -> (구독 ID -> 채팅방 코드)
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+    // 채팅방 코드 -> 현재 노드의 구독 수
+    private final Map<String, Integer> roomSubscriberCounts = new ConcurrentHashMap<>();
+    // Redis 채널을 구독 중인 채팅방 코드
+    private final Set<String> subscribedRooms = ConcurrentHashMap.newKeySet();
+    private final Striped<Lock> roomLocks = Striped.lock(64);
+
     @Override
     public void onMessage(Message message, byte[] pattern) {
         try {
-            String publishMessage = (String) redisTemplate.getStringSerializer().deserialize(message.getBody());
-            ChatMessage roomMessage = objectMapper.readValue(publishMessage, ChatMessage.class);
-            messagingTemplate.convertAndSend("/pub/public", roomMessage);
+            ChatBroadcastMessage broadcast = redisPubSubService.read(message.getBody());
+            messagingTemplate.convertAndSend(
+                    brokerMode.roomDestination(broadcast.roomCode(), broadcast.channel()), broadcast.payload());
         } catch (Exception e) {
-            log.error("Exception {}", e);
+            log.error("채팅방 브로드캐스트 수신 처리 실패", e);
+        }
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String roomCode = brokerMode.roomCodeOf(accessor.getDestination());
+        if (roomCode == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        String previous = sessionSubscriptions
+                .computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), roomCode);
+        if (previous == null) {
+            retainRoom(roomCode);
+        }
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        String roomCode = subscriptions.remove(accessor.getSubscriptionId());
+        if (roomCode != null) {
+            releaseRoom(roomCode);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::releaseRoom);
+        }
+    }
+
+    // ================= 채널 구독 관리 =================
+
+    private void retainRoom(String roomCode) {
+        Integer count = roomSubscriberCounts.merge(roomCode, 1, Integer::sum);
+        if (count == 1) {
+            syncChannel(roomCode);
+        }
+    }
+
+    private void releaseRoom(String roomCode) {
+        Integer count = roomSubscriberCounts.computeIfPresent(roomCode, (code, current) -> current > 1 ? current - 1 : null);
+        if (count == null) {
+            syncChannel(roomCode);
+        }
+    }
+
+    // 현재 구독 수에 맞춰 채널을 구독/해제
+    private void syncChannel(String roomCode) {
+        Lock lock = roomLocks.get(roomCode);
+        lock.lock();
+        try {
+            boolean needed = roomSubscriberCounts.containsKey(roomCode);
+            ChannelTopic topic = new ChannelTopic(RedisPubSubService.roomChannel(roomCode));
+            boolean subscribed = subscribedRooms.contains(roomCode);
+            if (needed && !subscribed) {
+                redisMessageListenerContainer.addMessageListener(this, topic);
+                subscribedRooms.add(roomCode);
+                log.debug("채팅방 채널 구독 시작: roomCode={}", roomCode);
+            } else if (!needed && subscribed) {
+                redisMessageListenerContainer.removeMessageListener(this, topic);
+                subscribedRooms.remove(roomCode);
+                log.debug("채팅방 채널 구독 해제: roomCode={}", roomCode);
+            }
+        } finally {
+            lock.unlock();
         }
     }
 }
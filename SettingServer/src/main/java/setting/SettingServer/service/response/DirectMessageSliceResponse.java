@@ -0,0 +1,12 @@
+package setting.SettingServer.service.response;
+
+import java.util.List;
+
+/**
+ * 1:1 대화 커서 조회 응답
+ * @param messages 오래된 순으로 정렬된 메시지
+ * @param nextCursor 다음 요청의 before 값 (더 이상 없으면 null)
+ * @param hasNext
+ */
+public record DirectMessageSliceResponse(List<DirectMessageResponse> messages, Long nextCursor, boolean hasNext) {
+}
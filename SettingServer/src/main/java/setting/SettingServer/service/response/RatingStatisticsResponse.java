@@ -1,9 +1,15 @@
 package setting.SettingServer.service.response;
 
-import setting.SettingServer.repository.ScoreCount;
+import setting.SettingServer.entity.Reference;
 
 import java.util.List;
 
-public record RatingStatisticsResponse(Double averageScore, List<ScoreCount> distribution, Long totalCount) {
+public record RatingStatisticsResponse(Double averageScore, List<ScoreCountResponse> distribution, Long totalCount) {
 
+    public static RatingStatisticsResponse from(Reference reference) {
+        return new RatingStatisticsResponse(
+                reference.calculateAverageRating(),
+                ScoreCountResponse.distributionOf(reference),
+                (long) reference.getRatingCount());
+    }
 }
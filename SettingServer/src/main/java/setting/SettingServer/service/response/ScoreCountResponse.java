@@ -1,4 +1,16 @@
 package setting.SettingServer.service.response;
 
+import setting.SettingServer.entity.Reference;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
 public record ScoreCountResponse(int score, Long count) {
+
+    // 게시글에 저장된 점수별 집계로 1-5점 분포 생성
+    public static List<ScoreCountResponse> distributionOf(Reference reference) {
+        return IntStream.rangeClosed(1, 5)
+                .mapToObj(score -> new ScoreCountResponse(score, (long) reference.getStarCount(score)))
+                .toList();
+    }
 }
@@ -0,0 +1,121 @@
+package setting.SettingServer.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeTest {
+
+    private static final long NOW = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+
+    @Test
+    @DisplayName("발급한 ID 는 계속 증가하고 발급 시각을 복원할 수 있다")
+    void idsIncreaseAndKeepTimestamp() {
+        AtomicLong clock = new AtomicLong(NOW);
+        Snowflake snowflake = new Snowflake(3, clock::get);
+
+        long previous = 0;
+        for (int i = 0; i < 1_000; i++) {
+            if (i % 10 == 0) {
+                clock.incrementAndGet();
+            }
+            long id = snowflake.nextId();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(Snowflake.timestampOf(id)).isEqualTo(clock.get());
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("같은 ms 에 시퀀스를 모두 쓰면 다음 ms 로 넘어간다")
+    void sequenceRolloverMovesToNextMillisecond() {
+        Snowflake snowflake = new Snowflake(0, () -> NOW);
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 129; i++) {
+            ids.add(snowflake.nextId());
+        }
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(ids.subList(0, 128)).allMatch(id -> Snowflake.timestampOf(id) == NOW);
+        assertThat(Snowflake.timestampOf(ids.get(128))).isEqualTo(NOW + 1);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 ID 는 줄어들지 않는다")
+    void clockMovingBackwardsKeepsIdsIncreasing() {
+        AtomicLong clock = new AtomicLong(NOW);
+        Snowflake snowflake = new Snowflake(0, clock::get);
+
+        long before = snowflake.nextId();
+        clock.set(NOW - 5_000);
+        long after = snowflake.nextId();
+        clock.set(NOW + 1);
+        long recovered = snowflake.nextId();
+
+        assertThat(after).isGreaterThan(before);
+        assertThat(Snowflake.timestampOf(after)).isEqualTo(NOW);
+        assertThat(recovered).isGreaterThan(after);
+        assertThat(Snowflake.timestampOf(recovered)).isEqualTo(NOW + 1);
+    }
+
+    @Test
+    @DisplayName("노드 ID 가 다르면 같은 시각에도 ID 가 겹치지 않는다")
+    void differentNodesNeverCollide() {
+        Snowflake node1 = new Snowflake(1, () -> NOW);
+        Snowflake node2 = new Snowflake(2, () -> NOW);
+
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            assertThat(ids.add(node1.nextId())).isTrue();
+            assertThat(ids.add(node2.nextId())).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 ID 가 겹치지 않는다")
+    void concurrentIdsAreUnique() throws Exception {
+        Snowflake snowflake = new Snowflake(0);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(snowflake.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(ids).hasSize(80_000);
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위를 벗어나면 생성할 수 없다")
+    void rejectsNodeIdOutOfRange() {
+        assertThatThrownBy(() -> new Snowflake(Snowflake.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Snowflake(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,130 @@
+package setting.SettingServer.config.jwt.service;
+
+import io.jsonwebtoken.io.Encoders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import setting.SettingServer.common.exception.InvalidTokenException;
+import setting.SettingServer.config.jwt.dto.TokenDto;
+import setting.SettingServer.config.jwt.dto.VerifiedClaims;
+import setting.SettingServer.config.jwt.service.RefreshTokenStore.RotationResult;
+import setting.SettingServer.entity.Member;
+import setting.SettingServer.entity.UserRole;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtServiceTest {
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+    @Mock
+    private TokenDenylist tokenDenylist;
+
+    @InjectMocks
+    private JwtService jwtService;
+
+    private final Member member = Member.builder()
+            .id(1L)
+            .email("user@example.com")
+            .role(UserRole.USER)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jwtService, "secret", Encoders.BASE64.encode(new byte[64]));
+        ReflectionTestUtils.setField(jwtService, "accessExpiration", 60_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 600_000L);
+        jwtService.init();
+    }
+
+    @Test
+    @DisplayName("로그인 시 발급한 refresh token 은 family 가 등록되어 재발급에 쓸 수 있다")
+    void issuedRefreshTokenCanBeRotated() {
+        TokenDto tokens = jwtService.issueTokens(member);
+
+        ArgumentCaptor<String> familyId = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> tokenId = ArgumentCaptor.forClass(String.class);
+        verify(refreshTokenStore).save(familyId.capture(), tokenId.capture(), eq(1L), eq(Duration.ofMillis(600_000L)));
+
+        VerifiedClaims claims = jwtService.parseVerified(tokens.getRefreshToken()).orElseThrow();
+        assertThat(claims.isRefreshToken()).isTrue();
+        assertThat(claims.familyId()).isEqualTo(familyId.getValue());
+        assertThat(claims.tokenId()).isEqualTo(tokenId.getValue());
+        assertThat(claims.hasMemberClaims()).isTrue();
+
+        when(refreshTokenStore.rotate(eq(familyId.getValue()), eq(tokenId.getValue()), anyString(), any()))
+                .thenReturn(RotationResult.ROTATED);
+
+        TokenDto reissued = jwtService.reissueTokens(tokens.getRefreshToken());
+
+        VerifiedClaims rotated = jwtService.parseVerified(reissued.getRefreshToken()).orElseThrow();
+        assertThat(rotated.familyId()).isEqualTo(familyId.getValue());
+        assertThat(rotated.tokenId()).isNotEqualTo(tokenId.getValue());
+        assertThat(jwtService.parseVerified(reissued.getAccessToken()).orElseThrow().memberId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("이미 교체된 refresh token 을 다시 쓰면 거부한다")
+    void reusedRefreshTokenIsRejected() {
+        TokenDto tokens = jwtService.issueTokens(member);
+        when(refreshTokenStore.rotate(anyString(), anyString(), anyString(), any()))
+                .thenReturn(RotationResult.REUSED);
+
+        assertThatThrownBy(() -> jwtService.reissueTokens(tokens.getRefreshToken()))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("만료되거나 폐기된 family 의 refresh token 은 거부한다")
+    void unknownFamilyIsRejected() {
+        TokenDto tokens = jwtService.issueTokens(member);
+        when(refreshTokenStore.rotate(anyString(), anyString(), anyString(), any()))
+                .thenReturn(RotationResult.UNKNOWN);
+
+        assertThatThrownBy(() -> jwtService.reissueTokens(tokens.getRefreshToken()))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("권한 없이 생성된 회원도 refresh token 으로 재발급할 수 있다")
+    void memberWithoutRoleCanReissue() {
+        Member noRole = Member.builder()
+                .id(2L)
+                .email("oauth@example.com")
+                .build();
+        TokenDto tokens = jwtService.issueTokens(noRole);
+        when(refreshTokenStore.rotate(anyString(), anyString(), anyString(), any()))
+                .thenReturn(RotationResult.ROTATED);
+
+        TokenDto reissued = jwtService.reissueTokens(tokens.getRefreshToken());
+
+        VerifiedClaims access = jwtService.parseVerified(reissued.getAccessToken()).orElseThrow();
+        assertThat(access.memberId()).isEqualTo(2L);
+        assertThat(access.role()).isNull();
+        assertThat(access.hasMemberClaims()).isFalse();
+    }
+
+    @Test
+    @DisplayName("access token 으로는 재발급할 수 없다")
+    void accessTokenCannotReissue() {
+        TokenDto tokens = jwtService.issueTokens(member);
+
+        assertThatThrownBy(() -> jwtService.reissueTokens(tokens.getAccessToken()))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+}
@@ -0,0 +1,72 @@
+package setting.SettingServer.config.jwt.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import setting.SettingServer.config.jwt.service.RefreshTokenStore.RotationResult;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @InjectMocks
+    private RefreshTokenStore refreshTokenStore;
+
+    @Test
+    @DisplayName("현재 토큰이면 교체된다")
+    void rotated() {
+        givenScriptResult(1L);
+
+        assertThat(rotate()).isEqualTo(RotationResult.ROTATED);
+    }
+
+    @Test
+    @DisplayName("family 가 없으면 (만료, 폐기) UNKNOWN")
+    void unknown() {
+        givenScriptResult(0L);
+
+        assertThat(rotate()).isEqualTo(RotationResult.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("이미 교체된 토큰이면 REUSED (family 는 스크립트에서 폐기)")
+    void reused() {
+        givenScriptResult(-1L);
+
+        assertThat(rotate()).isEqualTo(RotationResult.REUSED);
+    }
+
+    @Test
+    @DisplayName("스크립트 결과가 없으면 UNKNOWN 으로 보고 재발급하지 않는다")
+    void nullResult() {
+        givenScriptResult(null);
+
+        assertThat(rotate()).isEqualTo(RotationResult.UNKNOWN);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenScriptResult(Long result) {
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("refresh:family:family-1")),
+                eq("token-1"), eq("token-2"), eq("60000")))
+                .thenReturn(result);
+    }
+
+    private RotationResult rotate() {
+        return refreshTokenStore.rotate("family-1", "token-1", "token-2", Duration.ofMinutes(1));
+    }
+}
@@ -0,0 +1,153 @@
+package setting.SettingServer.config.jwt.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import setting.SettingServer.config.jwt.dto.VerifiedClaims;
+import setting.SettingServer.entity.JwtTokenType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenDenylistTest {
+
+    private static final long REFRESH_EXPIRATION = Duration.ofDays(14).toMillis();
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private TokenDenylist tokenDenylist;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        tokenDenylist = new TokenDenylist(stringRedisTemplate, redisMessageListenerContainer, new SimpleMeterRegistry(),
+                1_000, 0.001, REFRESH_EXPIRATION);
+    }
+
+    @Test
+    @DisplayName("폐기된 적 없는 토큰은 Redis 를 조회하지 않고 통과한다")
+    void unknownTokenSkipsRedis() {
+        assertThat(tokenDenylist.isRevoked(claims("token-1", 1L, Instant.now()))).isFalse();
+
+        verify(zSetOperations, never()).score(anyString(), anyString());
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰은 거부한다")
+    void revokedTokenIsRejected() {
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        tokenDenylist.revokeToken("token-1", expiresAt);
+        when(zSetOperations.score("jwt:denylist", "t:token-1")).thenReturn((double) expiresAt.toEpochMilli());
+
+        assertThat(tokenDenylist.isRevoked(claims("token-1", 1L, Instant.now()))).isTrue();
+        verify(stringRedisTemplate).convertAndSend(eq("jwt:denylist"), startsWith("t:token-1|"));
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 폐기 목록에 넣지 않는다")
+    void expiredTokenIsNotStored() {
+        tokenDenylist.revokeToken("token-1", Instant.now().minusSeconds(1));
+
+        verify(zSetOperations, never()).add(anyString(), anyString(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("bloom filter 양성이어도 Redis 에 없으면 통과한다 (오탐)")
+    void falsePositiveIsAllowed() {
+        tokenDenylist.onMessage(message("t:token-1|" + System.currentTimeMillis()), null);
+        when(zSetOperations.score("jwt:denylist", "t:token-1")).thenReturn(null);
+
+        assertThat(tokenDenylist.isRevoked(claims("token-1", 1L, Instant.now()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("양성 토큰을 Redis 로 확인할 수 없으면 거부한다")
+    void redisFailureRejects() {
+        tokenDenylist.onMessage(message("t:token-1|" + System.currentTimeMillis()), null);
+        when(zSetOperations.score("jwt:denylist", "t:token-1")).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThat(tokenDenylist.isRevoked(claims("token-1", 1L, Instant.now()))).isTrue();
+    }
+
+    @Test
+    @DisplayName("강제 로그아웃 기준 시각 이전에 발급된 토큰만 거부한다")
+    void memberCutoffRejectsOlderTokens() {
+        tokenDenylist.revokeMember(1L);
+        verify(valueOperations).set(eq("jwt:member-cutoff:1"), anyString(), eq(Duration.ofMillis(REFRESH_EXPIRATION)));
+
+        long cutoff = System.currentTimeMillis();
+        when(valueOperations.get("jwt:member-cutoff:1")).thenReturn(String.valueOf(cutoff));
+
+        assertThat(tokenDenylist.isRevoked(claims("old", 1L, Instant.ofEpochMilli(cutoff).minusSeconds(60)))).isTrue();
+        assertThat(tokenDenylist.isRevoked(claims("new", 1L, Instant.ofEpochMilli(cutoff).plusSeconds(60)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("재구성 후에는 만료되어 Redis 에서 빠진 항목을 더 이상 조회하지 않는다")
+    void rebuildDropsExpiredEntries() {
+        tokenDenylist.onMessage(message("t:token-1|" + System.currentTimeMillis()), null);
+        when(zSetOperations.zCard("jwt:denylist")).thenReturn(0L);
+        when(zSetOperations.range("jwt:denylist", 0, -1)).thenReturn(Set.of());
+
+        tokenDenylist.rebuild();
+
+        verify(zSetOperations).removeRangeByScore(eq("jwt:denylist"), eq(Double.NEGATIVE_INFINITY), anyDouble());
+        assertThat(tokenDenylist.isRevoked(claims("token-1", 1L, Instant.now()))).isFalse();
+        verify(zSetOperations, never()).score(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("재구성 중 Redis 에 있는 항목은 새 filter 에도 반영된다")
+    void rebuildLoadsEntriesFromRedis() {
+        when(zSetOperations.zCard("jwt:denylist")).thenReturn(1L);
+        when(zSetOperations.range(eq("jwt:denylist"), anyLong(), anyLong())).thenReturn(Set.of("t:token-1"));
+        when(zSetOperations.score("jwt:denylist", "t:token-1"))
+                .thenReturn((double) Instant.now().plusSeconds(60).toEpochMilli());
+
+        tokenDenylist.rebuild();
+
+        assertThat(tokenDenylist.isRevoked(claims("token-1", 1L, Instant.now()))).isTrue();
+    }
+
+    private static VerifiedClaims claims(String tokenId, Long memberId, Instant issuedAt) {
+        return new VerifiedClaims(JwtTokenType.ACCESS, "user@example.com", memberId, "USER", tokenId, null,
+                issuedAt, issuedAt.plusSeconds(3600));
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage("jwt:denylist".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
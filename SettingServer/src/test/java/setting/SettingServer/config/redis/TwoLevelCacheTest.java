@@ -0,0 +1,145 @@
+package setting.SettingServer.config.redis;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    @Mock
+    private RedisCache remote;
+
+    private final List<String> published = new ArrayList<>();
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = newCache(remote);
+    }
+
+    @Test
+    @DisplayName("L2 에서 찾은 값은 L1 에 채워 다음 조회는 Redis 를 거치지 않는다")
+    void remoteHitFillsLocal() {
+        when(remote.get(1L)).thenReturn(new SimpleValueWrapper("value"));
+
+        assertThat(cache.get(1L).get()).isEqualTo("value");
+        assertThat(cache.get(1L).get()).isEqualTo("value");
+
+        verify(remote, times(1)).get(1L);
+    }
+
+    @Test
+    @DisplayName("어디에도 없으면 null")
+    void missReturnsNull() {
+        assertThat(cache.get("missing")).isNull();
+    }
+
+    @Test
+    @DisplayName("저장/삭제는 L2 와 L1 에 반영하고 다른 서버에 무효화를 알린다")
+    void writesGoToBothLevelsAndPublish() {
+        cache.put(1L, "value");
+        verify(remote).put(1L, "value");
+        assertThat(cache.get(1L).get()).isEqualTo("value");
+
+        cache.evict(1L);
+        verify(remote).evict(1L);
+        assertThat(cache.get(1L)).isNull();
+
+        cache.clear();
+        verify(remote).clear();
+
+        assertThat(published).containsExactly("members:1", "members:1", "members:*");
+    }
+
+    @Test
+    @DisplayName("무효화 메시지의 문자열 키로 숫자 키의 L1 항목을 지울 수 있다")
+    void evictLocalMatchesStringKey() {
+        cache.put(1L, "value");
+
+        cache.evictLocal("1");
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("요청한 타입과 다른 값이 캐시되어 있으면 예외")
+    void typeMismatchThrows() {
+        cache.put(1L, "value");
+
+        assertThatThrownBy(() -> cache.get(1L, Integer.class))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("다른 서버의 무효화 메시지를 받으면 L1 만 지우고 다음 조회는 L2 에서 다시 읽는다")
+    void managerAppliesRemoteInvalidation() {
+        RedisCacheManager redisCacheManager = mock(RedisCacheManager.class);
+        when(redisCacheManager.getCache("members")).thenReturn(remote);
+        when(remote.get(1L)).thenReturn(new SimpleValueWrapper("value"));
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(redisCacheManager,
+                mock(StringRedisTemplate.class), new SimpleMeterRegistry(), Duration.ofMinutes(1), 100);
+
+        Cache managed = manager.getCache("members");
+        managed.get(1L);
+        managed.get(1L);
+        verify(remote, times(1)).get(1L);
+
+        manager.onMessage(message("other-node|members|1"), null);
+        managed.get(1L);
+
+        verify(remote, times(2)).get(1L);
+        verify(remote, never()).evict(eq(1L));
+    }
+
+    @Test
+    @DisplayName("잘못된 형식의 무효화 메시지는 무시한다")
+    void managerIgnoresMalformedMessage() {
+        RedisCacheManager redisCacheManager = mock(RedisCacheManager.class);
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(redisCacheManager,
+                mock(StringRedisTemplate.class), new SimpleMeterRegistry(), Duration.ofMinutes(1), 100);
+
+        manager.onMessage(message("broken"), null);
+
+        verify(redisCacheManager, never()).getCache(anyString());
+    }
+
+    private TwoLevelCache newCache(RedisCache remoteCache) {
+        CaffeineCache local = new CaffeineCache("members", Caffeine.newBuilder().maximumSize(100).build(), false);
+        return new TwoLevelCache(local, remoteCache,
+                (cacheName, key) -> published.add(cacheName + ":" + (key != null ? key : "*")),
+                new SimpleMeterRegistry());
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(TwoLevelCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,55 @@
+package setting.SettingServer.config.redis.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+import setting.SettingServer.dto.chat.EphemeralEventBatch;
+import setting.SettingServer.dto.chat.EphemeralEventBatch.ReadCursor;
+import setting.SettingServer.dto.chat.EphemeralEventBatch.Typing;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static setting.SettingServer.config.redis.websocket.SlowConsumerSessionDecoratorTest.bodyOf;
+import static setting.SettingServer.config.redis.websocket.SlowConsumerSessionDecoratorTest.frame;
+
+class EphemeralFrameMergerTest {
+
+    private static final String EPHEMERAL = "/sub/room/abc/ephemeral";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EphemeralFrameMerger merger = new EphemeralFrameMerger(objectMapper);
+
+    @Test
+    @DisplayName("입력 중 상태는 회원별 마지막 값, 읽음 위치는 회원별 가장 큰 값으로 합친다")
+    void mergesEphemeralEvents() throws Exception {
+        EphemeralEventBatch older = new EphemeralEventBatch("abc",
+                List.of(new Typing(1L, "u1", "회원1", true), new Typing(2L, "u2", "회원2", true)),
+                List.of(new ReadCursor(1L, "u1", 30L), new ReadCursor(2L, "u2", 10L)));
+        EphemeralEventBatch newer = new EphemeralEventBatch("abc",
+                List.of(new Typing(1L, "u1", "회원1", false)),
+                List.of(new ReadCursor(1L, "u1", 20L), new ReadCursor(2L, "u2", 15L)));
+
+        TextMessage merged = merger.merge(
+                frame(EPHEMERAL, objectMapper.writeValueAsString(older)),
+                frame(EPHEMERAL, objectMapper.writeValueAsString(newer)),
+                EPHEMERAL);
+
+        EphemeralEventBatch batch = objectMapper.readValue(bodyOf(merged), EphemeralEventBatch.class);
+        assertThat(batch.typing()).containsExactly(
+                new Typing(1L, "u1", "회원1", false),
+                new Typing(2L, "u2", "회원2", true));
+        assertThat(batch.readCursors()).containsExactly(
+                new ReadCursor(1L, "u1", 30L),
+                new ReadCursor(2L, "u2", 15L));
+    }
+
+    @Test
+    @DisplayName("본문을 해석할 수 없으면 합치지 않는다")
+    void returnsNullForUnknownBody() {
+        TextMessage merged = merger.merge(frame(EPHEMERAL, "not json"), frame(EPHEMERAL, "{}"), EPHEMERAL);
+
+        assertThat(merged).isNull();
+    }
+}
@@ -0,0 +1,156 @@
+package setting.SettingServer.config.redis.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import setting.SettingServer.config.redis.ChatBrokerMode;
+import setting.SettingServer.dto.chat.PresenceDiff;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class SlowConsumerSessionDecoratorTest {
+
+    private static final String ROOM = "/sub/room/abc";
+    private static final String PRESENCE = ROOM + "/" + ChatBrokerMode.PRESENCE_CHANNEL;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    // 첫 프레임 전송에서 멈추는 느린 클라이언트
+    private final List<TextMessage> sent = new CopyOnWriteArrayList<>();
+    private final CountDownLatch sending = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("COALESCE: 밀린 presence 변경분은 버리지 않고 하나로 합쳐 전달한다")
+    void coalesceMergesPresenceDeltas() throws Exception {
+        TextMessage first = frame(PRESENCE, presence(List.of(1L), List.of()));
+        SlowConsumerSessionDecorator session = decorator(SlowConsumerPolicy.COALESCE, first.getPayloadLength() * 3 / 2);
+        Future<?> blocked = sendBlocked(session, frame(ROOM, "{\"content\":\"hello\"}"));
+
+        session.sendMessage(first);
+        session.sendMessage(frame(PRESENCE, presence(List.of(2L), List.of(1L))));
+        session.sendMessage(frame(PRESENCE, presence(List.of(), List.of(3L))));
+        release.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+
+        assertThat(sent).hasSize(2);
+        TextMessage merged = sent.get(1);
+        PresenceDiff diff = objectMapper.readValue(bodyOf(merged), PresenceDiff.class);
+        assertThat(diff.online()).containsExactly(2L);
+        assertThat(diff.offline()).containsExactly(1L, 3L);
+        assertThat(merged.getPayload()).contains("content-length:" + bodyOf(merged).getBytes(StandardCharsets.UTF_8).length + "\n");
+        assertThat(count("coalesced")).isEqualTo(2);
+        assertThat(session.getBufferSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("COALESCE: 채팅 메시지만으로 한도를 넘으면 버리지 않고 연결을 끊는다")
+    void coalesceDisconnectsOnChatOverflow() throws Exception {
+        TextMessage chat = frame(ROOM, "{\"content\":\"hello\"}");
+        SlowConsumerSessionDecorator session = decorator(SlowConsumerPolicy.COALESCE, chat.getPayloadLength() * 3 / 2);
+        sendBlocked(session, chat);
+
+        session.sendMessage(chat);
+        assertThatThrownBy(() -> session.sendMessage(chat))
+                .isInstanceOf(SessionLimitExceededException.class);
+
+        assertThat(count("disconnected")).isEqualTo(1);
+        assertThat(count("dropped")).isZero();
+        assertThat(session.getBufferSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST: 한도를 넘으면 가장 오래된 프레임부터 버린다")
+    void dropOldestDropsOldestFrames() throws Exception {
+        SlowConsumerSessionDecorator session = decorator(SlowConsumerPolicy.DROP_OLDEST,
+                frame(ROOM, "{\"content\":\"1\"}").getPayloadLength() * 3 / 2);
+        Future<?> blocked = sendBlocked(session, frame(ROOM, "{\"content\":\"0\"}"));
+
+        session.sendMessage(frame(ROOM, "{\"content\":\"1\"}"));
+        session.sendMessage(frame(ROOM, "{\"content\":\"2\"}"));
+        session.sendMessage(frame(ROOM, "{\"content\":\"3\"}"));
+        release.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+
+        assertThat(sent).extracting(SlowConsumerSessionDecoratorTest::bodyOf)
+                .containsExactly("{\"content\":\"0\"}", "{\"content\":\"3\"}");
+        assertThat(count("dropped")).isEqualTo(2);
+    }
+
+    // ================= 헬퍼 =================
+
+    private SlowConsumerSessionDecorator decorator(SlowConsumerPolicy policy, int bufferSizeLimit) throws Exception {
+        WebSocketSession delegate = mock(WebSocketSession.class);
+        doAnswer(invocation -> {
+            sent.add(invocation.getArgument(0));
+            if (sent.size() == 1) {
+                sending.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(delegate).sendMessage(any());
+
+        return new SlowConsumerSessionDecorator(delegate, 10_000, bufferSizeLimit, policy, ChatBrokerMode.SIMPLE,
+                new SlowConsumerMetrics(meterRegistry, policy), new EphemeralFrameMerger(objectMapper));
+    }
+
+    // 다른 스레드가 첫 프레임을 보내는 중인 상태를 만든다
+    private Future<?> sendBlocked(SlowConsumerSessionDecorator session, TextMessage message) throws InterruptedException {
+        Future<?> future = executor.submit(() -> {
+            session.sendMessage(message);
+            return null;
+        });
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        return future;
+    }
+
+    private double count(String action) {
+        return meterRegistry.get("chat.websocket.slow_consumer").tag("action", action).tag("reason", "buffer")
+                .counter().count();
+    }
+
+    private String presence(List<Long> online, List<Long> offline) throws Exception {
+        return objectMapper.writeValueAsString(new PresenceDiff("abc", online, offline));
+    }
+
+    static TextMessage frame(String destination, String body) {
+        return new TextMessage("MESSAGE\n" +
+                "destination:" + destination + "\n" +
+                "content-type:application/json\n" +
+                "subscription:sub-0\n" +
+                "message-id:" + System.nanoTime() + "\n" +
+                "content-length:" + body.getBytes(StandardCharsets.UTF_8).length + "\n" +
+                "\n" + body + "\0");
+    }
+
+    static String bodyOf(TextMessage message) {
+        String frame = message.getPayload();
+        return frame.substring(frame.indexOf("\n\n") + 2, frame.lastIndexOf('\0'));
+    }
+}
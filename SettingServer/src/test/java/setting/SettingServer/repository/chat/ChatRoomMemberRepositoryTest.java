@@ -0,0 +1,107 @@
+package setting.SettingServer.repository.chat;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import setting.SettingServer.entity.Member;
+import setting.SettingServer.entity.chat.ChatRoom;
+import setting.SettingServer.entity.chat.ChatRoomMemberStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅방 목록 조회 쿼리 수 검증 (Testcontainers 로 PostgreSQL 을 띄운다, Docker 가 없으면 건너뛴다)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class ChatRoomMemberRepositoryTest {
+
+    private static final int ROOM_COUNT = 5;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+    @Autowired
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    private Member owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = entityManager.persist(member("owner", "방장"));
+        Member sender = entityManager.persist(member("sender", "발신자"));
+        Member other = entityManager.persist(member("other", "참여자"));
+
+        for (int i = 0; i < ROOM_COUNT; i++) {
+            ChatRoom room = entityManager.persist(ChatRoom.createGroupChat(List.of(owner, sender, other), owner, "방 " + i));
+            chatRoomRepository.updateLastMessage(room.getId(), (long) i + 1, LocalDateTime.now(), "메시지 " + i,
+                    sender.getUserId(), sender.getName());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("채팅방 수와 관계없이 목록과 건수 두 번의 쿼리로 조회한다")
+    void loadsPageWithTwoStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<ChatRoomSummary> page = chatRoomMemberRepository.findChatRoomSummaries(
+                owner.getId(), ChatRoomMemberStatus.ACTIVE, PageRequest.of(0, ROOM_COUNT - 1));
+
+        assertThat(page.getContent()).hasSize(ROOM_COUNT - 1);
+        assertThat(page.getTotalElements()).isEqualTo(ROOM_COUNT);
+        assertThat(page.getContent()).allSatisfy(summary -> {
+            assertThat(summary.getMemberCount()).isEqualTo(3);
+            assertThat(summary.getLastMessageSenderName()).isEqualTo("발신자");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("마지막 메시지 발신자는 회원 PK 가 아니라 userId 로 조회된다")
+    void lastMessageSenderIsUserId() {
+        Page<ChatRoomSummary> page = chatRoomMemberRepository.findChatRoomSummaries(
+                owner.getId(), ChatRoomMemberStatus.ACTIVE, PageRequest.of(0, ROOM_COUNT));
+
+        assertThat(page.getContent())
+                .extracting(ChatRoomSummary::getLastMessageSenderUserId)
+                .containsOnly("sender");
+    }
+
+    private static Member member(String userId, String name) {
+        return Member.builder()
+                .userId(userId)
+                .name(name)
+                .email(userId + "@example.com")
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package setting.SettingServer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.RestTemplate;
+import setting.SettingServer.config.redis.MemberDirectoryCache;
+import setting.SettingServer.entity.Member;
+import setting.SettingServer.repository.MemberRepository;
+import setting.SettingServer.user.OAuth2UserInfo;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OauthServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private RestTemplate restTemplate;
+    @Mock
+    private MemberDirectoryCache memberDirectoryCache;
+    @Mock
+    private OAuth2UserInfo userInfo;
+
+    private OauthService oauthService;
+
+    @BeforeEach
+    void setUp() {
+        oauthService = new OauthService(memberRepository, new ObjectMapper(), restTemplate, memberDirectoryCache);
+        when(userInfo.getEmail()).thenReturn("user@example.com");
+        when(memberRepository.save(any(Member.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("처음 로그인한 OAuth 회원은 회원 목록 캐시를 비운다")
+    void newMemberEvictsDirectory() {
+        when(memberRepository.findByEmail("user@example.com")).thenReturn(Optional.empty());
+
+        oauthService.processOAuthPostLogin(userInfo);
+
+        verify(memberDirectoryCache).evictAll();
+    }
+
+    @Test
+    @DisplayName("기존 회원의 로그인은 회원 목록 캐시를 그대로 둔다")
+    void existingMemberKeepsDirectory() {
+        Member member = Member.builder().id(1L).email("user@example.com").build();
+        when(memberRepository.findByEmail("user@example.com")).thenReturn(Optional.of(member));
+
+        oauthService.processOAuthPostLogin(userInfo);
+
+        verify(memberDirectoryCache, never()).evictAll();
+    }
+}
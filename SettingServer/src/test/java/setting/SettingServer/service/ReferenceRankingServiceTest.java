@@ -0,0 +1,145 @@
+package setting.SettingServer.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import setting.SettingServer.repository.ReferenceRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceRankingServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+    @Mock
+    private ReferenceRepository referenceRepository;
+
+    // 서울 기준 2026-10-18 00:30 (UTC 로는 아직 10월 17일)
+    private final Clock clock = Clock.fixed(Instant.parse("2026-10-17T15:30:00Z"), ZoneId.of("Asia/Seoul"));
+
+    private ReferenceRankingService referenceRankingService;
+
+    @BeforeEach
+    void setUp() {
+        referenceRankingService = new ReferenceRankingService(stringRedisTemplate, referenceRepository, clock, 2, 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("평균 별점은 커밋 후에 다시 읽은 값으로 순위에 반영한다")
+    void recordRatingUsesAverageReadAfterCommit() {
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        TransactionSynchronizationManager.initSynchronization();
+
+        referenceRankingService.recordRating(7L, 5);
+
+        verify(referenceRepository, never()).findAverageRatingById(any());
+        verify(zSetOperations, never()).add(anyString(), anyString(), anyDouble());
+
+        // 그 사이 다른 별점이 커밋되어 평균이 바뀐 경우
+        when(referenceRepository.findAverageRatingById(7L)).thenReturn(Optional.of(4.5));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(zSetOperations).add("reference:popular", "7", 4.5);
+    }
+
+    @Test
+    @DisplayName("별점 이벤트는 시계 기준 오늘 버킷에 누적하고 합산 범위가 지나면 만료되게 한다")
+    void recordRatingUsesTodayBucket() {
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(referenceRepository.findAverageRatingById(7L)).thenReturn(Optional.of(4.0));
+
+        referenceRankingService.recordRating(7L, 3);
+
+        verify(zSetOperations).incrementScore("reference:trending:20261018", "7", 6.0);
+        verify(stringRedisTemplate).expire("reference:trending:20261018", Duration.ofDays(8));
+    }
+
+    @Test
+    @DisplayName("최근 7일 버킷을 오늘부터 반감기 가중치로 합산한다")
+    void trendingUnionsDecayedWindow() {
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(stringRedisTemplate.hasKey("reference:trending:current")).thenReturn(false);
+
+        referenceRankingService.getTrendingIds(10);
+
+        ArgumentCaptor<Weights> weights = ArgumentCaptor.forClass(Weights.class);
+        verify(zSetOperations).unionAndStore(eq("reference:trending:20261018"),
+                eq(List.of("reference:trending:20261017", "reference:trending:20261016", "reference:trending:20261015",
+                        "reference:trending:20261014", "reference:trending:20261013", "reference:trending:20261012")),
+                eq("reference:trending:current"), eq(Aggregate.SUM), weights.capture());
+        // 반감기 2일: 하루마다 1/sqrt(2) 배
+        assertThat(weights.getValue().toArray()).containsExactly(
+                new double[]{1.0, Math.sqrt(0.5), 0.5, 0.5 * Math.sqrt(0.5), 0.25, 0.25 * Math.sqrt(0.5), 0.125},
+                within(1e-9));
+        verify(stringRedisTemplate).expire("reference:trending:current", Duration.ofSeconds(30));
+        verify(zSetOperations).reverseRange("reference:trending:current", 0, 9);
+    }
+
+    @Test
+    @DisplayName("DB 에 없는 게시글은 모든 순위에서 지운다")
+    void removeStaleReferences() {
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        referenceRankingService.removeStaleReferences(List.of(1L, 2L));
+
+        verify(zSetOperations).remove("reference:popular", "1", "2");
+        verify(zSetOperations).remove("reference:trending:current", "1", "2");
+    }
+
+    @Test
+    @DisplayName("정리할 게시글이 없으면 Redis 를 호출하지 않는다")
+    void removeStaleReferencesSkipsEmpty() {
+        referenceRankingService.removeStaleReferences(List.of());
+
+        verify(stringRedisTemplate, never()).opsForZSet();
+    }
+
+    @Test
+    @DisplayName("정리에 실패해도 조회는 계속한다")
+    void removeStaleReferencesIgnoresRedisFailure() {
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.remove("reference:popular", "1"))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThatCode(() -> referenceRankingService.removeStaleReferences(List.of(1L)))
+                .doesNotThrowAnyException();
+    }
+}
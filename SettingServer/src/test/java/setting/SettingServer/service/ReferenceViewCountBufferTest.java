@@ -0,0 +1,125 @@
+package setting.SettingServer.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import setting.SettingServer.repository.ReferenceViewCountRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceViewCountBufferTest {
+
+    @Mock
+    private ReferenceViewCountRepository referenceViewCountRepository;
+    @Mock
+    private ReferenceRankingService referenceRankingService;
+
+    private ReferenceViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ReferenceViewCountBuffer(referenceViewCountRepository, referenceRankingService, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("모인 조회수를 게시글 ID 순으로 한 번에 반영하고 순위에도 누적한다")
+    void flushAppliesSortedIncrements() {
+        buffer.increment(2L);
+        buffer.increment(1L);
+        buffer.increment(2L);
+
+        buffer.flush();
+
+        List<Map.Entry<Long, Long>> expected = List.of(Map.entry(1L, 1L), Map.entry(2L, 2L));
+        verify(referenceViewCountRepository).incrementAll(expected);
+        verify(referenceRankingService).recordViews(expected);
+        assertThat(buffer.pendingCount(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("조회가 없으면 DB 에 쓰지 않는다")
+    void emptyFlushDoesNothing() {
+        buffer.flush();
+
+        verifyNoInteractions(referenceViewCountRepository, referenceRankingService);
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증가분을 되돌려 다음 주기에 다시 반영한다")
+    void failedFlushKeepsIncrements() {
+        buffer.increment(1L);
+        buffer.increment(1L);
+        doThrow(new DataAccessResourceFailureException("down"))
+                .doNothing()
+                .when(referenceViewCountRepository).incrementAll(anyList());
+
+        buffer.flush();
+
+        assertThat(buffer.pendingCount(1L)).isEqualTo(2);
+        verify(referenceRankingService, never()).recordViews(any());
+
+        buffer.flush();
+
+        verify(referenceRankingService).recordViews(List.of(Map.entry(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("빈 카운터 정리와 조회가 겹쳐도 조회수를 잃지 않는다")
+    void concurrentIncrementsAreNotLost() throws Exception {
+        AtomicLong applied = new AtomicLong();
+        doAnswer(invocation -> {
+            List<Map.Entry<Long, Long>> increments = invocation.getArgument(0);
+            increments.forEach(increment -> applied.addAndGet(increment.getValue()));
+            return null;
+        }).when(referenceViewCountRepository).incrementAll(anyList());
+
+        int threads = 4;
+        int viewsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            List<Future<?>> viewers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                viewers.add(executor.submit(() -> {
+                    for (int i = 0; i < viewsPerThread; i++) {
+                        buffer.increment((long) (i % 3));
+                    }
+                }));
+            }
+            Future<?> flusher = executor.submit(() -> {
+                while (viewers.stream().anyMatch(viewer -> !viewer.isDone())) {
+                    buffer.flush();
+                }
+            });
+            for (Future<?> viewer : viewers) {
+                viewer.get();
+            }
+            flusher.get();
+        } finally {
+            executor.shutdown();
+        }
+        buffer.flush();
+
+        assertThat(applied.get()).isEqualTo((long) threads * viewsPerThread);
+    }
+}
@@ -0,0 +1,89 @@
+package setting.SettingServer.service.chat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import setting.SettingServer.entity.chat.ChatRoomMemberStatus;
+import setting.SettingServer.repository.chat.ChatRoomMemberRepository;
+import setting.SettingServer.repository.chat.ChatRoomMembership;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMembershipCacheTest {
+
+    private static final String ROOM_CODE = "room";
+
+    @Mock
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    private ChatMembershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ChatMembershipCache(chatRoomMemberRepository, new SimpleMeterRegistry(), 100, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("참여하지 않은 결과도 캐시한다")
+    void cachesNonMember() {
+        when(chatRoomMemberRepository.findMembership(ROOM_CODE, 1L, ChatRoomMemberStatus.ACTIVE))
+                .thenReturn(Optional.empty());
+
+        assertThat(cache.get(ROOM_CODE, 1L)).isEmpty();
+        assertThat(cache.get(ROOM_CODE, 1L)).isEmpty();
+
+        verify(chatRoomMemberRepository, times(1)).findMembership(ROOM_CODE, 1L, ChatRoomMemberStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("초대된 멤버는 커밋 후 제거되어 바로 참여 상태로 조회된다")
+    void evictsAfterCommit() {
+        ChatRoomMembership membership = mock(ChatRoomMembership.class);
+        when(chatRoomMemberRepository.findMembership(ROOM_CODE, 1L, ChatRoomMemberStatus.ACTIVE))
+                .thenReturn(Optional.empty(), Optional.of(membership));
+        assertThat(cache.get(ROOM_CODE, 1L)).isEmpty();
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.evictAfterCommit(ROOM_CODE, 1L);
+
+        // 커밋 전에는 이전 상태를 유지한다
+        assertThat(cache.get(ROOM_CODE, 1L)).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.get(ROOM_CODE, 1L)).contains(membership);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 바로 제거한다")
+    void evictsImmediatelyWithoutTransaction() {
+        when(chatRoomMemberRepository.findMembership(ROOM_CODE, 1L, ChatRoomMemberStatus.ACTIVE))
+                .thenReturn(Optional.empty());
+        cache.get(ROOM_CODE, 1L);
+
+        cache.evictAfterCommit(ROOM_CODE, 1L);
+        cache.get(ROOM_CODE, 1L);
+
+        verify(chatRoomMemberRepository, times(2)).findMembership(ROOM_CODE, 1L, ChatRoomMemberStatus.ACTIVE);
+    }
+}
@@ -0,0 +1,132 @@
+package setting.SettingServer.service.chat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import setting.SettingServer.dto.chat.PendingChatMessage;
+import setting.SettingServer.entity.chat.MessageType;
+import setting.SettingServer.repository.chat.ChatMessageBatchRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageWriteBehindBufferTest {
+
+    private static final int MAX_RETRIES = 2;
+
+    @Mock
+    private ChatMessageBatchRepository chatMessageBatchRepository;
+    @Mock
+    private ChatMessageDeadLetterStore chatMessageDeadLetterStore;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ChatMessageWriteBehindBuffer buffer;
+
+    @AfterEach
+    void tearDown() {
+        if (buffer != null) {
+            buffer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("배치 중 한 행만 제약 조건을 위반하면 나머지는 저장하고 그 행만 dead-letter 로 보관한다")
+    void splitsBatchAndDeadLettersOnlyFailingRow() throws InterruptedException {
+        List<Long> persisted = new CopyOnWriteArrayList<>();
+        CountDownLatch firstSave = new CountDownLatch(1);
+        CountDownLatch enqueued = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            List<PendingChatMessage> batch = invocation.getArgument(0);
+            if (firstSave.getCount() > 0) {
+                // 첫 배치를 붙잡아 두는 동안 나머지 메시지가 한 배치로 쌓이게 한다
+                firstSave.countDown();
+                enqueued.await(5, TimeUnit.SECONDS);
+            }
+            if (batch.stream().anyMatch(message -> message.id() == 3L)) {
+                throw new DataIntegrityViolationException("fk violation");
+            }
+            batch.forEach(message -> persisted.add(message.id()));
+            return null;
+        }).when(chatMessageBatchRepository).saveAll(anyList());
+
+        buffer = newBuffer();
+        buffer.start();
+        buffer.enqueue(message(1L));
+        assertThat(firstSave.await(5, TimeUnit.SECONDS)).isTrue();
+        for (long id = 2; id <= 5; id++) {
+            buffer.enqueue(message(id));
+        }
+        enqueued.countDown();
+        buffer.stop();
+
+        assertThat(persisted).containsExactlyInAnyOrder(1L, 2L, 4L, 5L);
+        verify(chatMessageDeadLetterStore).add(argThat(message -> message.id() == 3L), any());
+        verify(chatMessageDeadLetterStore, never()).add(argThat(message -> message.id() != 3L), any());
+    }
+
+    @Test
+    @DisplayName("DB 장애는 나누어 저장하지 않고 재시도 후 바로 dead-letter 로 보관한다")
+    void doesNotSplitOnResourceFailure() throws InterruptedException {
+        Map<Long, Integer> attempts = new ConcurrentHashMap<>();
+        CountDownLatch firstSave = new CountDownLatch(1);
+        CountDownLatch enqueued = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            List<PendingChatMessage> batch = invocation.getArgument(0);
+            batch.forEach(message -> attempts.merge(message.id(), 1, Integer::sum));
+            if (firstSave.getCount() > 0) {
+                firstSave.countDown();
+                enqueued.await(5, TimeUnit.SECONDS);
+            }
+            throw new DataAccessResourceFailureException("connection refused");
+        }).when(chatMessageBatchRepository).saveAll(anyList());
+
+        buffer = newBuffer();
+        buffer.start();
+        buffer.enqueue(message(1L));
+        assertThat(firstSave.await(5, TimeUnit.SECONDS)).isTrue();
+        for (long id = 2; id <= 5; id++) {
+            buffer.enqueue(message(id));
+        }
+        enqueued.countDown();
+        buffer.stop();
+
+        assertThat(attempts).hasSize(5);
+        assertThat(attempts.values()).containsOnly(MAX_RETRIES);
+        for (long id = 1; id <= 5; id++) {
+            long messageId = id;
+            verify(chatMessageDeadLetterStore).add(argThat(message -> message.id() == messageId), any());
+        }
+    }
+
+    private ChatMessageWriteBehindBuffer newBuffer() {
+        return new ChatMessageWriteBehindBuffer(chatMessageBatchRepository, chatMessageDeadLetterStore,
+                transactionManager, new SimpleMeterRegistry(),
+                100, 500, 10, 20, MAX_RETRIES, 5_000);
+    }
+
+    private static PendingChatMessage message(long id) {
+        return new PendingChatMessage(id, 1L, 1L, "user1", "회원", "message " + id, MessageType.CHAT, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,86 @@
+package setting.SettingServer.service.chat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.messaging.MessageDeliveryException;
+import setting.SettingServer.config.redis.ChatBrokerMode;
+import setting.SettingServer.dto.chat.PresenceDiff;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatPresenceServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+    @Mock
+    private ChatRoomBroadcaster chatRoomBroadcaster;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ChatPresenceService presenceService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lenient().when(zSetOperations.rangeByScore(anyString(), anyDouble(), anyDouble())).thenReturn(Set.of());
+        presenceService = new ChatPresenceService(stringRedisTemplate, chatRoomBroadcaster, meterRegistry, ChatBrokerMode.SIMPLE, 60);
+
+        presenceService.connect("session-1", () -> "1");
+        presenceService.subscribe("session-1", "sub-1", "/sub/room/room-1");
+    }
+
+    @Test
+    @DisplayName("변경분 전달에 실패해도 Redis 에 반영한 상태는 유지하고 실패 수만 센다")
+    void broadcastFailureKeepsFlushedState() {
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of());
+        doThrow(new MessageDeliveryException("broker unavailable"))
+                .when(chatRoomBroadcaster).broadcast(eq("room-1"), eq(ChatBrokerMode.PRESENCE_CHANNEL), any(PresenceDiff.class));
+
+        presenceService.flush();
+        presenceService.flush();
+
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(chatRoomBroadcaster, times(1)).broadcast(eq("room-1"), eq(ChatBrokerMode.PRESENCE_CHANNEL), any(PresenceDiff.class));
+        assertThat(meterRegistry.counter("chat.presence.broadcast_failures").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 반영에 실패하면 전달하지 않고 다음 주기에 다시 반영한다")
+    void redisFailureRetriesNextFlush() {
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(List.of());
+
+        presenceService.flush();
+        verify(chatRoomBroadcaster, never()).broadcast(anyString(), anyString(), any());
+
+        presenceService.flush();
+        verify(stringRedisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+        verify(chatRoomBroadcaster).broadcast(eq("room-1"), eq(ChatBrokerMode.PRESENCE_CHANNEL), any(PresenceDiff.class));
+        assertThat(meterRegistry.counter("chat.presence.broadcast_failures").count()).isZero();
+    }
+}
@@ -0,0 +1,132 @@
+package setting.SettingServer.service.chat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import setting.SettingServer.repository.chat.ChatReadReceiptRepository;
+import setting.SettingServer.repository.chat.ChatReadReceiptRepository.ReadReceipt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatReadReceiptBufferTest {
+
+    @Mock
+    private ChatReadReceiptRepository chatReadReceiptRepository;
+
+    private ChatReadReceiptBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ChatReadReceiptBuffer(chatReadReceiptRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 회원의 읽음 위치는 가장 큰 값만 채팅방, 회원 순으로 반영된다")
+    void flushMergesToMaxAndSorts() {
+        List<ReadReceipt> flushed = capture();
+
+        buffer.record(2L, 1L, 30L);
+        buffer.record(1L, 2L, 10L);
+        buffer.record(1L, 2L, 15L);
+        buffer.record(1L, 2L, 12L);
+        buffer.record(1L, 1L, 20L);
+        buffer.flush();
+
+        assertThat(flushed).containsExactly(
+                new ReadReceipt(1L, 1L, 20L),
+                new ReadReceipt(1L, 2L, 15L),
+                new ReadReceipt(2L, 1L, 30L));
+    }
+
+    @Test
+    @DisplayName("대기 중인 읽음 위치가 없으면 DB 를 호출하지 않는다")
+    void emptyFlushSkipsRepository() {
+        buffer.flush();
+
+        verify(chatReadReceiptRepository, never()).updateLastReadMessageIds(anyList());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 되돌린 값과 그 사이 들어온 값 중 큰 값으로 다시 반영된다")
+    void failedFlushIsRetriedWithMax() {
+        buffer.record(1L, 1L, 20L);
+        doThrow(new QueryTimeoutException("timeout"))
+                .when(chatReadReceiptRepository).updateLastReadMessageIds(anyList());
+        buffer.flush();
+
+        buffer.record(1L, 1L, 10L);
+        buffer.record(1L, 2L, 5L);
+        List<ReadReceipt> flushed = capture();
+        buffer.flush();
+
+        assertThat(flushed).containsExactly(
+                new ReadReceipt(1L, 1L, 20L),
+                new ReadReceipt(1L, 2L, 5L));
+    }
+
+    @Test
+    @DisplayName("flush 와 동시에 기록해도 회원별 최종 읽음 위치가 유실되지 않는다")
+    void concurrentRecordAndFlushKeepsMax() throws InterruptedException {
+        Map<Long, Long> persisted = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            List<ReadReceipt> receipts = invocation.getArgument(0);
+            receipts.forEach(receipt -> persisted.merge(receipt.memberId(), receipt.messageId(), Math::max));
+            return null;
+        }).when(chatReadReceiptRepository).updateLastReadMessageIds(anyList());
+
+        int writers = 8;
+        int messages = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        CountDownLatch done = new CountDownLatch(writers);
+        for (long memberId = 1; memberId <= writers; memberId++) {
+            long id = memberId;
+            executor.execute(() -> {
+                for (long messageId = 1; messageId <= messages; messageId++) {
+                    buffer.record(1L, id, messageId);
+                }
+                done.countDown();
+            });
+        }
+        executor.execute(() -> {
+            while (done.getCount() > 0) {
+                buffer.flush();
+            }
+        });
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        buffer.flush();
+
+        assertThat(persisted).hasSize(writers);
+        assertThat(persisted.values()).containsOnly((long) messages);
+    }
+
+    private List<ReadReceipt> capture() {
+        List<ReadReceipt> flushed = new ArrayList<>();
+        doAnswer(invocation -> {
+            flushed.addAll(invocation.getArgument(0));
+            return null;
+        }).when(chatReadReceiptRepository).updateLastReadMessageIds(anyList());
+        return flushed;
+    }
+}
@@ -0,0 +1,131 @@
+package setting.SettingServer.service.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+import setting.SettingServer.config.redis.ChatBrokerMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RedisSubscriberServiceTest {
+
+    private static final ChannelTopic ROOM_TOPIC = new ChannelTopic(RedisPubSubService.roomChannel("room-1"));
+
+    @Mock
+    private RedisPubSubService redisPubSubService;
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+    @Mock
+    private SimpMessageSendingOperations messagingTemplate;
+
+    private RedisSubscriberService subscriberService;
+
+    @BeforeEach
+    void setUp() {
+        subscriberService = new RedisSubscriberService(redisPubSubService, redisMessageListenerContainer, messagingTemplate);
+        ReflectionTestUtils.setField(subscriberService, "brokerMode", ChatBrokerMode.REDIS);
+    }
+
+    @Test
+    @DisplayName("채팅방의 첫 구독에서 채널을 구독하고 마지막 구독이 끝나면 해제한다")
+    void subscribesWhileRoomHasSubscribers() {
+        subscriberService.handleSubscribe(subscribe("session-1", "sub-1"));
+        subscriberService.handleSubscribe(subscribe("session-2", "sub-1"));
+
+        verify(redisMessageListenerContainer, times(1)).addMessageListener(subscriberService, ROOM_TOPIC);
+
+        subscriberService.handleUnsubscribe(unsubscribe("session-1", "sub-1"));
+        verify(redisMessageListenerContainer, never()).removeMessageListener(any(), any(ChannelTopic.class));
+
+        subscriberService.handleDisconnect(new SessionDisconnectEvent(this, disconnectMessage("session-2"), "session-2", CloseStatus.NORMAL));
+        verify(redisMessageListenerContainer).removeMessageListener(subscriberService, ROOM_TOPIC);
+    }
+
+    @Test
+    @DisplayName("구독과 해제가 동시에 몰려도 채널 구독 상태가 최종 구독 수를 따른다")
+    void concurrentChurnEndsConsistent() throws Exception {
+        AtomicInteger channelSubscriptions = new AtomicInteger();
+        doAnswer(invocation -> channelSubscriptions.incrementAndGet())
+                .when(redisMessageListenerContainer).addMessageListener(eq(subscriberService), eq(ROOM_TOPIC));
+        doAnswer(invocation -> channelSubscriptions.decrementAndGet())
+                .when(redisMessageListenerContainer).removeMessageListener(eq(subscriberService), eq(ROOM_TOPIC));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                String sessionId = "session-" + t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        subscriberService.handleSubscribe(subscribe(sessionId, "sub-" + i));
+                        subscriberService.handleUnsubscribe(unsubscribe(sessionId, "sub-" + i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(channelSubscriptions.get()).isZero();
+
+        subscriberService.handleSubscribe(subscribe("session-last", "sub-1"));
+        assertThat(channelSubscriptions.get()).isEqualTo(1);
+    }
+
+    private static SessionSubscribeEvent subscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(ChatBrokerMode.REDIS.roomDestination("room-1", null));
+        return new SessionSubscribeEvent(RedisSubscriberServiceTest.class, message(accessor));
+    }
+
+    private static SessionUnsubscribeEvent unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return new SessionUnsubscribeEvent(RedisSubscriberServiceTest.class, message(accessor));
+    }
+
+    private static Message<byte[]> disconnectMessage(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return message(accessor);
+    }
+
+    private static Message<byte[]> message(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}